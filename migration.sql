@@ -1,3 +1,6 @@
+-- [레거시] Flyway 도입 이전 DB 에 수동으로 적용하던 스크립트 (현재 스키마는 V1__init_schema.sql 기준)
+-- 새 스키마 변경은 src/main/resources/db/migration 에 V{n}__설명.sql 로 추가
+
 -- 경매 시스템 데이터베이스 마이그레이션 스크립트
 -- 기존 items 테이블에 새로운 시간 필드 추가 및 status 업데이트
 
@@ -1,3 +1,6 @@
+-- [레거시] Flyway 도입 이전 DB 에 수동으로 적용하던 스크립트 (현재 스키마는 V1__init_schema.sql 기준)
+-- 새 스키마 변경은 src/main/resources/db/migration 에 V{n}__설명.sql 로 추가
+
 -- User 테이블에 balance 컬럼 추가
 ALTER TABLE users ADD COLUMN balance BIGINT NOT NULL DEFAULT 0;
 
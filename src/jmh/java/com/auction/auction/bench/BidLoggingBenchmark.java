@@ -0,0 +1,129 @@
+package com.auction.auction.bench;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.slf4j.Logger;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.FileAppender;
+
+/**
+ * 입찰 경로 로그 처리량 비교
+ * - verbose-sync: 기존 방식 (입찰당 INFO 8줄, 거절 시 ERROR 5줄 + 스택 트레이스, 동기 출력)
+ * - structured-sync: 입찰당 한 줄, 거절 시 스택 트레이스 없음 (동기 출력)
+ * - structured-async: 입찰당 한 줄 + AsyncAppender (운영 프로필의 입찰 로그 설정: 버리지 않고 가득 차면 대기)
+ * 운영과 같이 임시 파일에 버퍼링해서 기록하므로 디스크 쓰기 속도가 따라가지 못하면 async 도 대기 시간에 반영
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(4)
+public class BidLoggingBenchmark {
+
+    @Param({"verbose-sync", "structured-sync", "structured-async"})
+    private String mode;
+
+    private LoggerContext context;
+    private Logger log;
+    private boolean verbose;
+    private Path logFile;
+
+    @Setup
+    public void setup() throws IOException {
+        context = new LoggerContext();
+        verbose = mode.startsWith("verbose");
+
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern("%d{yyyy-MM-dd'T'HH:mm:ss.SSS} %-5level [%thread] %logger{36} %msg%n");
+        encoder.start();
+
+        logFile = Files.createTempFile("bid-logging-", ".log");
+        FileAppender<ILoggingEvent> output = new FileAppender<>();
+        output.setContext(context);
+        output.setEncoder(encoder);
+        output.setFile(logFile.toString());
+        output.setImmediateFlush(false);
+        output.start();
+
+        Appender<ILoggingEvent> appender = output;
+        if (mode.endsWith("async")) {
+            AsyncAppender async = new AsyncAppender();
+            async.setContext(context);
+            async.setQueueSize(8192);
+            async.setDiscardingThreshold(0);
+            async.setNeverBlock(false);
+            async.setIncludeCallerData(false);
+            async.addAppender(output);
+            async.start();
+            appender = async;
+        }
+
+        ch.qos.logback.classic.Logger root = context.getLogger(Logger.ROOT_LOGGER_NAME);
+        root.detachAndStopAllAppenders();
+        root.addAppender(appender);
+        root.setLevel(Level.INFO);
+        log = context.getLogger("com.auction.auction.controller.WebSocketAuctionController");
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        context.stop();
+        Files.deleteIfExists(logFile);
+    }
+
+    @Benchmark
+    public void acceptedBid() {
+        if (verbose) {
+            log.info("==== WebSocket 입찰 요청 수신 ====");
+            log.info("물건 ID: {}", 42L);
+            log.info("입찰 금액: {}", 15000L);
+            log.info("사용자: {}", "bidder1");
+            log.info("사용자 조회 중: {}", "bidder1");
+            log.info("입찰 처리 시작 - 사용자: {}, 금액: {}", "bidder1", 15000L);
+            log.info("입찰 성공! 입찰 ID: {}, 금액: {}", 1001L, 15000L);
+            log.info("입찰 메시지 브로드캐스트 준비 완료");
+            log.info("====================================");
+        } else {
+            log.info("bid result=accepted item={} user={} amount={} price={} placed={} tookUs={}",
+                    42L, "bidder1", 15000L, 15000L, 1, 850L);
+        }
+    }
+
+    @Benchmark
+    public void rejectedBid() {
+        if (verbose) {
+            IllegalArgumentException e = new IllegalArgumentException("입찰가는 현재가보다 높아야 합니다.");
+            log.info("==== WebSocket 입찰 요청 수신 ====");
+            log.info("물건 ID: {}", 42L);
+            log.info("입찰 금액: {}", 9000L);
+            log.info("사용자: {}", "bidder1");
+            log.error("==== 입찰 실패 ====");
+            log.error("예외 타입: {}", e.getClass().getName());
+            log.error("오류 메시지: {}", e.getMessage());
+            log.error("스택 트레이스:", e);
+            log.error("====================");
+        } else {
+            log.info("bid result=rejected item={} user={} amount={} reason=\"{}\"",
+                    42L, "bidder1", 9000L, "입찰가는 현재가보다 높아야 합니다.");
+        }
+    }
+}
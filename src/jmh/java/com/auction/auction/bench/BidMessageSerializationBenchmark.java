@@ -0,0 +1,68 @@
+package com.auction.auction.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.auction.auction.controller.WebSocketAuctionController.BidMessage;
+
+import tools.jackson.databind.ObjectWriter;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * BidMessage JSON 직렬화 (/topic/auction/{itemId} 브로드캐스트 페이로드)
+ * - 브로커는 메시지를 한 번 직렬화해 모든 구독자에게 같은 바이트를 보내므로 입찰 1건당 1회 발생
+ * - mapper: 메시지 컨버터와 같은 방식 (ObjectMapper 호출), writer: 타입을 고정한 ObjectWriter 재사용
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BidMessageSerializationBenchmark {
+
+    private JsonMapper mapper;
+    private ObjectWriter writer;
+    private BidMessage accepted;
+    private BidMessage rejected;
+
+    @Setup
+    public void setup() {
+        mapper = JsonMapper.builder().build();
+        writer = mapper.writerFor(BidMessage.class);
+
+        accepted = new BidMessage();
+        accepted.setItemId(42L);
+        accepted.setBidAmount(152_000L);
+        accepted.setBidderUsername("bidder1");
+        accepted.setBidderName("입찰자1");
+        accepted.setBidTime("2025-01-01T12:00:00.123456");
+        accepted.setBidsPlaced(1);
+        accepted.setEndTime("2025-01-01T12:05:30");
+        accepted.setSuccess(true);
+
+        rejected = new BidMessage();
+        rejected.setItemId(42L);
+        rejected.setSuccess(false);
+        rejected.setErrorMessage("입찰가는 현재가보다 높아야 합니다.");
+    }
+
+    @Benchmark
+    public byte[] acceptedMapper() {
+        return mapper.writeValueAsBytes(accepted);
+    }
+
+    @Benchmark
+    public byte[] acceptedWriter() {
+        return writer.writeValueAsBytes(accepted);
+    }
+
+    @Benchmark
+    public byte[] rejectedMapper() {
+        return mapper.writeValueAsBytes(rejected);
+    }
+}
@@ -0,0 +1,159 @@
+package com.auction.auction.bench;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.auction.auction.datasource.ReplicaLagGuard;
+import com.auction.auction.metrics.AuctionMetrics;
+import com.auction.auction.model.Bid;
+import com.auction.auction.model.Item;
+import com.auction.auction.model.Item.ItemStatus;
+import com.auction.auction.model.User;
+import com.auction.auction.repository.AuctionParticipantRepository;
+import com.auction.auction.repository.BalanceHoldRepository;
+import com.auction.auction.repository.BalanceSnapshotRepository;
+import com.auction.auction.repository.BidRepository;
+import com.auction.auction.repository.ItemRepository;
+import com.auction.auction.repository.LedgerEntryRepository;
+import com.auction.auction.repository.UserRepository;
+import com.auction.auction.scheduler.AuctionDeadlineTracker;
+import com.auction.auction.search.ItemSearchIndex;
+import com.auction.auction.service.AuctionOutcome;
+import com.auction.auction.service.AuctionService;
+import com.auction.auction.service.AuctionSummaryService;
+import com.auction.auction.service.BalanceHoldService;
+import com.auction.auction.service.LedgerService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * AuctionService.placeBid 검증/수락 경로
+ * - 리포지토리는 메모리 대역이므로 DB 왕복을 뺀 서비스 자체 비용 (검증, 잔액 홀드, 마감 연장, 메트릭, 색인 반영)
+ * - accepted: 매번 현재가보다 높은 금액으로 선두가 바뀌는 입찰 (이전 선두 홀드 해제 포함)
+ * - tooLow / notParticipant: 입찰 경쟁 중 대부분을 차지하는 거절 경로
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BidPlacementBenchmark {
+
+    private static final long ITEM_ID = 1L;
+
+    // 선두가 매번 바뀌도록 번갈아 입찰하는 참여자 수
+    @Param({"2", "50"})
+    private int bidders;
+
+    private AuctionService auctionService;
+    private Item item;
+    private List<User> users;
+    private User outsider;
+    private int turn;
+
+    @Setup
+    public void setup() {
+        User seller = user(0L);
+        item = new Item();
+        item.setId(ITEM_ID);
+        item.setTitle("벤치마크 물건");
+        item.setDescription("입찰 경로 측정용");
+        item.setStartPrice(1_000L);
+        item.setCurrentPrice(1_000L);
+        item.setStatus(ItemStatus.AUCTION_STARTED);
+        item.setEndTime(LocalDateTime.now().plusYears(1));
+        item.setSeller(seller);
+
+        users = new ArrayList<>(bidders);
+        for (long id = 1; id <= bidders; id++) {
+            users.add(user(id));
+        }
+        outsider = user(bidders + 1L);
+
+        ItemRepository itemRepository = InMemoryRepository.of(ItemRepository.class)
+                .on("findByIdForUpdate", args -> ITEM_ID == (Long) args[0] ? Optional.of(item) : Optional.empty())
+                .on("save", args -> args[0])
+                .build();
+        BidRepository bidRepository = InMemoryRepository.of(BidRepository.class)
+                .on("save", args -> args[0])
+                .build();
+        AuctionParticipantRepository participantRepository = InMemoryRepository.of(AuctionParticipantRepository.class)
+                .on("existsByItemIdAndUserId", args -> ITEM_ID == (Long) args[0] && (Long) args[1] <= bidders)
+                .build();
+        BalanceHoldRepository holdRepository = InMemoryRepository.of(BalanceHoldRepository.class).build();
+        BalanceSnapshotRepository snapshotRepository = InMemoryRepository.of(BalanceSnapshotRepository.class)
+                .on("findTopByUserIdOrderByIdDesc", args -> Optional.empty())
+                .build();
+        LedgerEntryRepository entryRepository = InMemoryRepository.of(LedgerEntryRepository.class)
+                .on("sumWalletAfter", args -> 0L)
+                .build();
+        UserRepository userRepository = InMemoryRepository.of(UserRepository.class)
+                .on("findById", args -> Optional.of(user((Long) args[0])))
+                .build();
+
+        BalanceHoldService holdService = new BalanceHoldService(holdRepository, new NoDbJdbcTemplate());
+        LedgerService ledgerService = new LedgerService(entryRepository, snapshotRepository, userRepository, null);
+        AuctionMetrics metrics = new AuctionMetrics(new SimpleMeterRegistry());
+        auctionService = new AuctionService(participantRepository, bidRepository, itemRepository,
+                new AuctionDeadlineTracker(), holdService, ledgerService, metrics, new ItemSearchIndex(itemRepository),
+                new ReplicaLagGuard(), null, new NoDbSummaryService());
+    }
+
+    @Benchmark
+    public AuctionOutcome<Bid> accepted() {
+        User bidder = users.get(turn++ % bidders);
+        return auctionService.placeBid(ITEM_ID, bidder, item.getCurrentPrice() + 100);
+    }
+
+    @Benchmark
+    public AuctionOutcome<Bid> tooLow() {
+        return auctionService.placeBid(ITEM_ID, users.get(0), item.getCurrentPrice());
+    }
+
+    @Benchmark
+    public AuctionOutcome<Bid> notParticipant() {
+        return auctionService.placeBid(ITEM_ID, outsider, item.getCurrentPrice() + 100);
+    }
+
+    private static User user(Long id) {
+        User user = new User();
+        user.setId(id);
+        user.setUsername("bidder" + id);
+        user.setName("입찰자" + id);
+        user.setBalance(Long.MAX_VALUE / 4);
+        return user;
+    }
+
+    // 홀드 기록은 DB 왕복이므로 측정에서 제외 (UPDATE 가 한 행을 바꾼 것으로 처리)
+    private static class NoDbJdbcTemplate extends JdbcTemplate {
+
+        @Override
+        public int update(String sql, Object... args) {
+            return 1;
+        }
+    }
+
+    // 요약 UPDATE 는 DB 왕복이므로 측정에서 제외
+    private static class NoDbSummaryService extends AuctionSummaryService {
+
+        NoDbSummaryService() {
+            super(null, null, null);
+        }
+
+        @Override
+        public void onBidAccepted(Long itemId, Long bidderId, String bidderName) {
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.auction.auction.bench;
+
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 벤치마크용 리포지토리 대역
+ * - Spring Data 인터페이스를 동적 프록시로 구현하고, 벤치마크가 실제로 호출하는 메서드만 등록
+ * - 등록하지 않은 메서드를 호출하면 UnsupportedOperationException (측정 경로가 바뀐 것을 바로 알 수 있도록)
+ */
+final class InMemoryRepository<T> {
+
+    private final Class<T> type;
+    private final Map<String, Function<Object[], Object>> methods = new HashMap<>();
+
+    private InMemoryRepository(Class<T> type) {
+        this.type = type;
+    }
+
+    static <T> InMemoryRepository<T> of(Class<T> type) {
+        return new InMemoryRepository<>(type);
+    }
+
+    InMemoryRepository<T> on(String method, Function<Object[], Object> handler) {
+        methods.put(method, handler);
+        return this;
+    }
+
+    T build() {
+        Object proxy = Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (self, method, args) -> {
+            Function<Object[], Object> handler = methods.get(method.getName());
+            if (handler != null) {
+                return handler.apply(args);
+            }
+            return switch (method.getName()) {
+                case "toString" -> "InMemory" + type.getSimpleName();
+                case "hashCode" -> System.identityHashCode(self);
+                case "equals" -> self == args[0];
+                default -> throw new UnsupportedOperationException(type.getSimpleName() + "." + method.getName());
+            };
+        });
+        return type.cast(proxy);
+    }
+}
@@ -0,0 +1,119 @@
+package com.auction.auction.bench;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import com.auction.auction.controller.ItemController;
+import com.auction.auction.dto.ItemResponse;
+import com.auction.auction.model.Item;
+import com.auction.auction.model.Item.ItemStatus;
+import com.auction.auction.model.User;
+import com.auction.auction.repository.ItemRepository;
+import com.auction.auction.search.ItemSearchIndex;
+import com.auction.auction.service.ImageVariantService;
+import com.auction.auction.service.ItemChangeSequence;
+import com.auction.auction.service.ItemService;
+import com.auction.auction.storage.LocalImageStore;
+
+/**
+ * ItemController.convertToResponse (목록 API 한 페이지)
+ * - GET /api/items/active 와 같은 경로로 items 개를 ItemResponse 로 변환
+ * - 변형 이미지 URL 확인이 포함되며, 준비된 변형은 처음 한 번만 저장소에서 확인하므로 이후 반복은 메모리 조회 비용
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ItemResponseBenchmark {
+
+    @Param({"50"})
+    private int items;
+
+    // none: 이미지 없음, variant: 업로드 이미지 + 목록/썸네일 변형 파일 있음
+    @Param({"none", "variant"})
+    private String images;
+
+    private Path uploadDir;
+    private ImageVariantService variantService;
+    private ItemController controller;
+
+    @Setup
+    public void setup() throws IOException {
+        uploadDir = Files.createTempDirectory("bench-uploads");
+
+        User seller = new User();
+        seller.setId(1L);
+        seller.setUsername("seller1");
+        seller.setName("판매자1");
+
+        List<Item> list = new ArrayList<>(items);
+        LocalDateTime now = LocalDateTime.now();
+        for (long id = 1; id <= items; id++) {
+            Item item = new Item();
+            item.setId(id);
+            item.setTitle("경매 물건 " + id);
+            item.setDescription("목록 변환 측정용 설명 " + id);
+            item.setStartPrice(10_000L);
+            item.setCurrentPrice(10_000L + id * 500);
+            item.setStatus(id % 2 == 0 ? ItemStatus.AUCTION_STARTED : ItemStatus.RECRUITING);
+            item.setRecruitmentEndTime(now.plusMinutes(3));
+            item.setAuctionStartTime(now.plusMinutes(3));
+            item.setEndTime(now.plusHours(1));
+            item.setCreatedAt(now);
+            item.setSeller(seller);
+            if (images.equals("variant")) {
+                String key = String.format("%02x/%02x/%064x", id % 256, id / 256 % 256, id);
+                Path dir = Files.createDirectories(uploadDir.resolve(key).getParent());
+                Files.createFile(uploadDir.resolve(key + ".jpg"));
+                Files.createFile(dir.resolve(Path.of(key).getFileName() + "_thumb.jpg"));
+                Files.createFile(dir.resolve(Path.of(key).getFileName() + "_list.jpg"));
+                item.setImageUrl("/uploads/images/" + key + ".jpg");
+            }
+            list.add(item);
+        }
+
+        ItemRepository itemRepository = InMemoryRepository.of(ItemRepository.class)
+                .on("findByStatusNotOrderByCreatedAtDesc", args -> list)
+                .build();
+        // 사용자/이미지 참조 관리는 목록 조회에서 사용하지 않음
+        ItemService itemService = new ItemService(itemRepository, null, null, new ItemSearchIndex(itemRepository), null, null);
+        ItemChangeSequence changeSequence = new ItemChangeSequence();
+        variantService = new ImageVariantService(new LocalImageStore(uploadDir.toString()), changeSequence, 1, 1, 30_000L);
+        controller = new ItemController(itemService, variantService, changeSequence);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        variantService.shutdown();
+        try (Stream<Path> paths = Files.walk(uploadDir)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @Benchmark
+    public ResponseEntity<List<ItemResponse>> activeItems() {
+        // If-None-Match 없는 첫 조회 (목록 변환과 직렬화 준비 경로 측정)
+        return controller.getActiveItems(new ServletWebRequest(new MockHttpServletRequest("GET", "/api/items/active")));
+    }
+}
@@ -0,0 +1,70 @@
+package com.auction.auction.bench;
+
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import com.auction.auction.util.JwtUtil;
+
+/**
+ * JwtUtil 토큰 생성/검증
+ * - 요청마다 JwtAuthenticationFilter 가 getUsernameFromToken + validateToken 을 호출하므로 인증 요청당 비용은 filterPath
+ * - 비밀 키와 만료 시간은 application.properties 와 같은 값
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtBenchmark {
+
+    private JwtUtil jwtUtil;
+    private UserDetails userDetails;
+    private String token;
+
+    @Setup
+    public void setup() throws ReflectiveOperationException {
+        jwtUtil = new JwtUtil();
+        set("secret", "mySecretKeyForJWT1234567890AuctionApplicationSecureKey2024");
+        set("expiration", 86400000L);
+
+        userDetails = User.withUsername("bidder1").password("{noop}password").authorities(List.of()).build();
+        token = jwtUtil.generateToken(userDetails.getUsername());
+    }
+
+    @Benchmark
+    public String generate() {
+        return jwtUtil.generateToken("bidder1");
+    }
+
+    @Benchmark
+    public String parse() {
+        return jwtUtil.getUsernameFromToken(token);
+    }
+
+    @Benchmark
+    public boolean validate() {
+        return jwtUtil.validateToken(token, userDetails);
+    }
+
+    // JwtAuthenticationFilter 와 같은 호출 순서
+    @Benchmark
+    public boolean filterPath() {
+        String username = jwtUtil.getUsernameFromToken(token);
+        return username != null && jwtUtil.validateToken(token, userDetails);
+    }
+
+    private void set(String name, Object value) throws ReflectiveOperationException {
+        Field field = JwtUtil.class.getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(jwtUtil, value);
+    }
+}
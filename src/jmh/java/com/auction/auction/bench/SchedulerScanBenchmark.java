@@ -0,0 +1,96 @@
+package com.auction.auction.bench;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.auction.auction.metrics.AuctionMetrics;
+import com.auction.auction.model.Item;
+import com.auction.auction.model.Item.ItemStatus;
+import com.auction.auction.model.User;
+import com.auction.auction.repository.ItemRepository;
+import com.auction.auction.scheduler.AuctionDeadlineTracker;
+import com.auction.auction.scheduler.AuctionStatusScheduler;
+import com.auction.auction.search.ItemSearchIndex;
+import com.auction.auction.service.ItemChangeSequence;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * AuctionStatusScheduler 상태 전환 스캔 (10초 주기 작업)
+ * - items 개 중 절반은 모집 중, 절반은 진행 중이며 전환 대상이 없는 평상시 주기를 측정
+ * - 리포지토리는 미리 만든 목록을 돌려주므로 DB 조회를 뺀 순회 비용 (시간 비교, 마감 대기열 등록 확인)
+ * - closeDue: 마감 대기열이 비어 있을 때 1초 주기 작업의 비용
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SchedulerScanBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int items;
+
+    private AuctionStatusScheduler scheduler;
+
+    @Setup
+    public void setup() {
+        User seller = new User();
+        seller.setId(1L);
+        seller.setUsername("seller1");
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Item> recruiting = new ArrayList<>(items / 2);
+        List<Item> started = new ArrayList<>(items / 2);
+        for (long id = 1; id <= items; id++) {
+            Item item = new Item();
+            item.setId(id);
+            item.setTitle("경매 물건 " + id);
+            item.setSeller(seller);
+            item.setStartPrice(10_000L);
+            item.setCurrentPrice(10_000L);
+            item.setRecruitmentEndTime(now.plusHours(1));
+            item.setAuctionStartTime(now.plusHours(1));
+            item.setEndTime(now.plusHours(2).plusSeconds(id));
+            if (id % 2 == 0) {
+                item.setStatus(ItemStatus.AUCTION_STARTED);
+                started.add(item);
+            } else {
+                recruiting.add(item);
+            }
+        }
+
+        ItemRepository itemRepository = InMemoryRepository.of(ItemRepository.class)
+                .on("findByStatus", args -> args[0] == ItemStatus.RECRUITING ? recruiting : started)
+                .build();
+
+        // 재시작 후 첫 주기가 지난 상태처럼 진행 중 경매를 마감 대기열에 미리 등록
+        AuctionDeadlineTracker deadlineTracker = new AuctionDeadlineTracker();
+        for (Item item : started) {
+            deadlineTracker.track(item.getId(), item.getEndTime());
+        }
+
+        // 전환/마감 대상이 없으므로 낙찰 처리에 쓰이는 협력 객체는 호출되지 않음
+        scheduler = new AuctionStatusScheduler(itemRepository, null, null, deadlineTracker,
+                null, null, null, new ItemSearchIndex(itemRepository), new ItemChangeSequence(), new AuctionMetrics(new SimpleMeterRegistry()));
+    }
+
+    @Benchmark
+    public void statusScan() {
+        scheduler.updateAuctionStatus();
+    }
+
+    @Benchmark
+    public void closeDue() {
+        scheduler.closeDueAuctions();
+    }
+}
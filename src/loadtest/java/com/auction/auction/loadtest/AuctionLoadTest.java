@@ -0,0 +1,475 @@
+package com.auction.auction.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * STOMP 입찰 부하 테스트
+ * 서버를 loadtest 프로필로 띄운 뒤 실행 (입찰자 bidderN / 경매방 loadtest-room-N 은 LoadTestSeeder 가 생성)
+ *
+ * 옵션 (--key=value)
+ * - url: 서버 주소 (기본 http://localhost:8080/auction)
+ * - users: 동시 접속 입찰자 수, rooms: 사용할 경매방 수 (입찰자는 방에 고르게 배정)
+ * - duration: 입찰 시간(초), rate: 입찰자당 초당 입찰 수
+ * - arrival: poisson (지수 분포 간격) | uniform (고정 간격 + 지터) | burst (같은 방 입찰자가 동시에 입찰)
+ * - increment / max-steps: 입찰 금액 = 알고 있는 현재가 + increment * (1..max-steps)
+ * - slow-fraction / slow-delay-ms: 느린 소비자 비율과 프레임당 처리 지연
+ * - storm-at / storm-fraction: storm-at 초에 storm-fraction 비율의 연결을 한꺼번에 끊고 즉시 재연결
+ * - connect-concurrency: 초기 접속 시 동시 로그인/핸드셰이크 수
+ *
+ * 결과
+ * - 수락률: 보낸 입찰 중 자기 입찰이 브로드캐스트된 비율 (거절은 /user/queue/errors, 무응답은 timeout)
+ * - fanout: 입찰 전송 → 방의 모든 (느리지 않은) 구독자가 브로드캐스트를 받을 때까지
+ * - delivery: 입찰 전송 → 구독자 한 명이 받을 때까지 (일반/느린 소비자 따로)
+ */
+public final class AuctionLoadTest {
+
+    private static final Pattern ID = Pattern.compile("\"id\":(\\d+)");
+    private static final Pattern ROOM_TITLE = Pattern.compile("\"title\":\"loadtest-room-\\d+\"");
+    private static final Pattern CURRENT_PRICE = Pattern.compile("\"currentPrice\":(\\d+)");
+    private static final Pattern BID_AMOUNT = Pattern.compile("\"bidAmount\":(\\d+)");
+    private static final Pattern BIDDER = Pattern.compile("\"bidderUsername\":\"([^\"]*)\"");
+    private static final Pattern ERROR = Pattern.compile("\"errorMessage\":\"([^\"]*)\"");
+
+    private final Map<String, String> options;
+    private final String baseUrl;
+    private final HttpClient http;
+
+    private final List<Room> rooms = new ArrayList<>();
+    private final List<Bidder> bidders = new ArrayList<>();
+    private final Map<StompConnection, Bidder> byConnection = new ConcurrentHashMap<>();
+
+    // "itemId:금액" -> 첫 전송 시각 / 브로드캐스트 수신 현황
+    private final Map<String, Long> sentAt = new ConcurrentHashMap<>();
+    private final Map<String, Fanout> fanouts = new ConcurrentHashMap<>();
+
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder accepted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder skipped = new LongAdder();
+    private final LongAdder serverDisconnects = new LongAdder();
+    private final Map<String, LongAdder> rejectReasons = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> disconnectReasons = new ConcurrentHashMap<>();
+
+    private final LatencyRecorder connectLatency = new LatencyRecorder();
+    private final LatencyRecorder reconnectLatency = new LatencyRecorder();
+    private final LatencyRecorder responseLatency = new LatencyRecorder();
+    private final LatencyRecorder fanoutLatency = new LatencyRecorder();
+    private final LatencyRecorder deliveryLatency = new LatencyRecorder();
+    private final LatencyRecorder slowDeliveryLatency = new LatencyRecorder();
+    private final AtomicInteger connectFailures = new AtomicInteger();
+    private final AtomicInteger reconnectFailures = new AtomicInteger();
+
+    private AuctionLoadTest(Map<String, String> options) {
+        this.options = options;
+        this.baseUrl = option("url", "http://localhost:8080/auction");
+        this.http = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(10))
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .build();
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("옵션 형식은 --key=value: " + arg);
+            }
+            options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+        }
+        new AuctionLoadTest(options).run();
+        System.exit(0);
+    }
+
+    private void run() throws Exception {
+        int userCount = intOption("users", 200);
+        int roomCount = intOption("rooms", 10);
+        double slowFraction = doubleOption("slow-fraction", 0.0);
+        long slowDelay = longOption("slow-delay-ms", 200);
+
+        loadRooms(roomCount);
+        int slowEvery = slowFraction > 0 ? (int) Math.max(1, Math.round(1 / slowFraction)) : 0;
+        for (int i = 1; i <= userCount; i++) {
+            Room room = rooms.get((i - 1) % rooms.size());
+            boolean slow = slowEvery > 0 && i % slowEvery == 0;
+            Bidder bidder = new Bidder(room, new StompConnection("bidder" + i, slow, slowDelay, new Handler()));
+            bidders.add(bidder);
+            byConnection.put(bidder.connection, bidder);
+        }
+        System.out.printf("대상 %s, 입찰자 %d명 (느린 소비자 %d명), 경매방 %d개%n", baseUrl, userCount,
+                bidders.stream().filter(b -> b.connection.slow()).count(), rooms.size());
+
+        connectAll();
+        System.out.printf("접속 완료: 성공 %d, 실패 %d, 연결 시간 %s%n",
+                userCount - connectFailures.get(), connectFailures.get(), connectLatency.summary());
+
+        ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(
+                Math.max(2, Runtime.getRuntime().availableProcessors()), runnable -> {
+                    Thread thread = new Thread(runnable, "loadtest-bidder");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        long duration = longOption("duration", 60);
+        scheduleBids(scheduler);
+        scheduleStorm(scheduler, duration);
+        scheduler.scheduleAtFixedRate(this::progress, 5, 5, TimeUnit.SECONDS);
+
+        Thread.sleep(TimeUnit.SECONDS.toMillis(duration));
+        scheduler.shutdownNow();
+
+        // 아직 응답을 받지 못한 입찰 대기
+        Thread.sleep(longOption("response-timeout-ms", 5000));
+        for (Bidder bidder : bidders) {
+            bidder.connection.close(true);
+        }
+        report(duration);
+    }
+
+    // 경매방 목록 (loadtest-room-N 물건)
+    private void loadRooms(int roomCount) throws Exception {
+        HttpResponse<String> response = http.send(
+                HttpRequest.newBuilder(URI.create(baseUrl + "/api/items/active")).GET().build(),
+                HttpResponse.BodyHandlers.ofString());
+        // ItemResponse 는 중첩 객체가 없으므로 배열 원소 경계로 나눠 필드 순서와 무관하게 읽음
+        for (String object : response.body().split("\\},\\s*\\{")) {
+            Matcher id = ID.matcher(object);
+            Matcher price = CURRENT_PRICE.matcher(object);
+            if (ROOM_TITLE.matcher(object).find() && id.find() && price.find() && rooms.size() < roomCount) {
+                rooms.add(new Room(Long.parseLong(id.group(1)), Long.parseLong(price.group(1))));
+            }
+        }
+        if (rooms.isEmpty()) {
+            throw new IllegalStateException("loadtest-room 경매방이 없음 (서버를 --spring.profiles.active=loadtest 로 실행)");
+        }
+    }
+
+    private void connectAll() throws InterruptedException {
+        Semaphore permits = new Semaphore(intOption("connect-concurrency", 50));
+        String password = option("password", "loadtest");
+        List<CompletableFuture<Void>> futures = new ArrayList<>(bidders.size());
+        for (Bidder bidder : bidders) {
+            permits.acquire();
+            long start = System.nanoTime();
+            futures.add(CompletableFuture.runAsync(() -> {
+                        try {
+                            bidder.connection.login(http, baseUrl, password);
+                        } catch (Exception e) {
+                            throw new IllegalStateException(e.getMessage(), e);
+                        }
+                    })
+                    .thenCompose(ignored -> open(bidder))
+                    .whenComplete((ignored, error) -> {
+                        permits.release();
+                        if (error != null) {
+                            connectFailures.incrementAndGet();
+                            count(disconnectReasons, "connect: " + rootMessage(error));
+                        } else {
+                            connectLatency.record(System.nanoTime() - start);
+                        }
+                    }));
+        }
+        for (CompletableFuture<Void> future : futures) {
+            future.handle((ignored, error) -> null).join();
+        }
+    }
+
+    // WebSocket 연결 + 방/오류 큐 구독
+    private CompletableFuture<Void> open(Bidder bidder) {
+        return bidder.connection.connect(http, baseUrl)
+                .orTimeout(15, TimeUnit.SECONDS)
+                .thenRun(() -> {
+                    bidder.connection.subscribe("room", "/topic/auction/" + bidder.room.itemId);
+                    bidder.connection.subscribe("errors", "/user/queue/errors");
+                    if (!bidder.connection.slow()) {
+                        bidder.room.subscribers.incrementAndGet();
+                    }
+                });
+    }
+
+    private void scheduleBids(ScheduledExecutorService scheduler) {
+        String arrival = option("arrival", "poisson");
+        double rate = doubleOption("rate", 0.5);
+        long meanNanos = (long) (TimeUnit.SECONDS.toNanos(1) / rate);
+
+        if (arrival.equals("burst")) {
+            // 같은 방 입찰자가 같은 순간에 입찰 (같은 금액 경합)
+            scheduler.scheduleAtFixedRate(() -> {
+                for (Bidder bidder : bidders) {
+                    bid(bidder);
+                }
+            }, meanNanos, meanNanos, TimeUnit.NANOSECONDS);
+            return;
+        }
+
+        for (Bidder bidder : bidders) {
+            long first = ThreadLocalRandom.current().nextLong(Math.max(meanNanos, 1));
+            scheduler.schedule(new Runnable() {
+                @Override
+                public void run() {
+                    bid(bidder);
+                    scheduler.schedule(this, nextInterval(arrival, meanNanos), TimeUnit.NANOSECONDS);
+                }
+            }, first, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private static long nextInterval(String arrival, long meanNanos) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        if (arrival.equals("uniform")) {
+            // 평균 간격 ±10% 지터
+            return meanNanos + (long) ((random.nextDouble() - 0.5) * 0.2 * meanNanos);
+        }
+        // 포아송 도착 (지수 분포 간격)
+        return (long) (-Math.log(1 - random.nextDouble()) * meanNanos);
+    }
+
+    private void bid(Bidder bidder) {
+        if (!bidder.connection.isOpen()) {
+            skipped.increment();
+            return;
+        }
+        long increment = longOption("increment", 1000);
+        int maxSteps = intOption("max-steps", 3);
+        long amount = bidder.room.price.get() + increment * ThreadLocalRandom.current().nextInt(1, maxSteps + 1);
+        long now = System.nanoTime();
+
+        sentAt.putIfAbsent(bidder.room.itemId + ":" + amount, now);
+        synchronized (bidder.pending) {
+            bidder.pending.put(amount, now);
+        }
+        sent.increment();
+        bidder.connection.sendJson("/app/auction/" + bidder.room.itemId + "/bid", "{\"bidAmount\":" + amount + "}");
+    }
+
+    private void scheduleStorm(ScheduledExecutorService scheduler, long duration) {
+        long stormAt = longOption("storm-at", 0);
+        if (stormAt <= 0 || stormAt >= duration) {
+            return;
+        }
+        double fraction = doubleOption("storm-fraction", 1.0);
+        scheduler.schedule(() -> {
+            List<Bidder> targets = new ArrayList<>();
+            for (Bidder bidder : bidders) {
+                if (bidder.connection.isOpen() && ThreadLocalRandom.current().nextDouble() < fraction) {
+                    targets.add(bidder);
+                }
+            }
+            System.out.printf("재연결 폭주: %d개 연결을 끊고 동시에 재연결%n", targets.size());
+            for (Bidder bidder : targets) {
+                bidder.connection.close(false);
+                if (!bidder.connection.slow()) {
+                    bidder.room.subscribers.decrementAndGet();
+                }
+            }
+            // 세션 쿠키는 그대로 사용 (브라우저 재연결과 같음), 동시 접속 수 제한 없음
+            for (Bidder bidder : targets) {
+                long start = System.nanoTime();
+                open(bidder).whenComplete((ignored, error) -> {
+                    if (error != null) {
+                        reconnectFailures.incrementAndGet();
+                        count(disconnectReasons, "reconnect: " + rootMessage(error));
+                    } else {
+                        reconnectLatency.record(System.nanoTime() - start);
+                    }
+                });
+            }
+        }, stormAt, TimeUnit.SECONDS);
+    }
+
+    private void progress() {
+        System.out.printf("진행: 전송 %d, 수락 %d, 거절 %d, fanout %s%n",
+                sent.sum(), accepted.sum(), rejected.sum(), fanoutLatency.summary());
+    }
+
+    private void report(long duration) {
+        long sentCount = sent.sum();
+        long acceptedCount = accepted.sum();
+        long rejectedCount = rejected.sum();
+        long timedOut = 0;
+        for (Bidder bidder : bidders) {
+            synchronized (bidder.pending) {
+                timedOut += bidder.pending.size();
+            }
+        }
+
+        System.out.println();
+        System.out.println("==== 결과 ====");
+        System.out.printf("입찰: 전송 %d (%.1f/s), 수락 %d, 거절 %d, 무응답 %d, 연결 끊김으로 건너뜀 %d%n",
+                sentCount, sentCount / (double) duration, acceptedCount, rejectedCount, timedOut, skipped.sum());
+        System.out.printf("수락률: %.1f%%%n", sentCount == 0 ? 0.0 : acceptedCount * 100.0 / sentCount);
+        rejectReasons.forEach((reason, count) -> System.out.printf("  거절 %-40s %d%n", reason, count.sum()));
+        System.out.println("응답 (전송 → 수락/거절 수신): " + responseLatency.summary());
+        System.out.println("fanout (전송 → 방의 모든 구독자 수신): " + fanoutLatency.summary());
+        System.out.println("delivery (전송 → 구독자 1명 수신): " + deliveryLatency.summary());
+        System.out.println("delivery (느린 소비자): " + slowDeliveryLatency.summary());
+        System.out.printf("접속: 실패 %d, 연결 시간 %s%n", connectFailures.get(), connectLatency.summary());
+        System.out.printf("재연결: 실패 %d, 재연결 시간 %s%n", reconnectFailures.get(), reconnectLatency.summary());
+        System.out.printf("서버가 끊은 연결: %d%n", serverDisconnects.sum());
+        disconnectReasons.forEach((reason, count) -> System.out.printf("  %-50s %d%n", reason, count.sum()));
+
+        long incomplete = fanouts.values().stream().filter(f -> !f.done).count();
+        System.out.printf("모든 구독자에게 도달하지 못한 브로드캐스트: %d%n", incomplete);
+    }
+
+    private final class Handler implements StompConnection.Handler {
+
+        @Override
+        public void onMessage(StompConnection connection, String destination, String body, long receivedNanos) {
+            Bidder bidder = byConnection.get(connection);
+            if (bidder == null || destination == null) {
+                return;
+            }
+            if (destination.startsWith("/user/queue/errors")) {
+                onError(bidder, body, receivedNanos);
+            } else if (destination.startsWith("/topic/auction/")) {
+                onBroadcast(bidder, body, receivedNanos);
+            }
+        }
+
+        @Override
+        public void onClosed(StompConnection connection, String reason) {
+            Bidder bidder = byConnection.get(connection);
+            serverDisconnects.increment();
+            count(disconnectReasons, (connection.slow() ? "slow " : "") + reason);
+            if (bidder != null && !connection.slow()) {
+                bidder.room.subscribers.decrementAndGet();
+            }
+        }
+
+        private void onError(Bidder bidder, String body, long receivedNanos) {
+            // 거절 메시지에는 금액이 없으므로 가장 오래된 미응답 입찰에 대응시킴
+            Long sentNanos = null;
+            synchronized (bidder.pending) {
+                var iterator = bidder.pending.entrySet().iterator();
+                if (iterator.hasNext()) {
+                    sentNanos = iterator.next().getValue();
+                    iterator.remove();
+                }
+            }
+            rejected.increment();
+            Matcher matcher = ERROR.matcher(body);
+            count(rejectReasons, matcher.find() ? matcher.group(1) : "(unknown)");
+            if (sentNanos != null) {
+                responseLatency.record(receivedNanos - sentNanos);
+            }
+        }
+
+        private void onBroadcast(Bidder bidder, String body, long receivedNanos) {
+            Matcher amountMatcher = BID_AMOUNT.matcher(body);
+            if (!amountMatcher.find()) {
+                return;
+            }
+            long amount = Long.parseLong(amountMatcher.group(1));
+            bidder.room.price.accumulateAndGet(amount, Math::max);
+
+            String key = bidder.room.itemId + ":" + amount;
+            Long sentNanos = sentAt.get(key);
+            if (sentNanos != null) {
+                (bidder.connection.slow() ? slowDeliveryLatency : deliveryLatency).record(receivedNanos - sentNanos);
+                if (!bidder.connection.slow()) {
+                    Fanout fanout = fanouts.computeIfAbsent(key, k -> new Fanout(bidder.room.subscribers.get()));
+                    if (fanout.received.incrementAndGet() == fanout.expected) {
+                        fanout.done = true;
+                        fanoutLatency.record(receivedNanos - sentNanos);
+                    }
+                }
+            }
+
+            // 자기 입찰이 수락된 경우
+            Matcher bidderMatcher = BIDDER.matcher(body);
+            if (bidderMatcher.find() && bidderMatcher.group(1).equals(bidder.connection.username())) {
+                Long own;
+                synchronized (bidder.pending) {
+                    own = bidder.pending.remove(amount);
+                }
+                if (own != null) {
+                    accepted.increment();
+                    responseLatency.record(receivedNanos - own);
+                }
+            }
+        }
+    }
+
+    private static void count(Map<String, LongAdder> counts, String key) {
+        counts.computeIfAbsent(key, k -> new LongAdder()).increment();
+    }
+
+    private static String rootMessage(Throwable error) {
+        Throwable root = error;
+        while (root.getCause() != null) {
+            root = root.getCause();
+        }
+        return root.getClass().getSimpleName() + (root.getMessage() != null ? " " + root.getMessage() : "");
+    }
+
+    private String option(String key, String defaultValue) {
+        return options.getOrDefault(key, defaultValue);
+    }
+
+    private int intOption(String key, int defaultValue) {
+        return Integer.parseInt(option(key, String.valueOf(defaultValue)));
+    }
+
+    private long longOption(String key, long defaultValue) {
+        return Long.parseLong(option(key, String.valueOf(defaultValue)));
+    }
+
+    private double doubleOption(String key, double defaultValue) {
+        return Double.parseDouble(option(key, String.valueOf(defaultValue)));
+    }
+
+    private static final class Room {
+        final long itemId;
+        // 브로드캐스트로 알게 된 현재가
+        final AtomicLong price;
+        // 현재 구독 중인 (느리지 않은) 구독자 수
+        final AtomicInteger subscribers = new AtomicInteger();
+
+        Room(long itemId, long currentPrice) {
+            this.itemId = itemId;
+            this.price = new AtomicLong(currentPrice);
+        }
+    }
+
+    private static final class Bidder {
+        final Room room;
+        final StompConnection connection;
+        // 응답을 기다리는 입찰 (금액 -> 전송 시각, 전송 순서 유지)
+        final Map<Long, Long> pending = new LinkedHashMap<>();
+
+        Bidder(Room room, StompConnection connection) {
+            this.room = room;
+            this.connection = connection;
+        }
+    }
+
+    private static final class Fanout {
+        final int expected;
+        final AtomicInteger received = new AtomicInteger();
+        volatile boolean done;
+
+        Fanout(int expected) {
+            this.expected = expected;
+        }
+    }
+}
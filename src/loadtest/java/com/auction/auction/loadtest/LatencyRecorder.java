@@ -0,0 +1,42 @@
+package com.auction.auction.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * 지연 시간 기록 (나노초, 종료 후 정렬해서 백분위 계산)
+ */
+final class LatencyRecorder {
+
+    private long[] values = new long[1024];
+    private int size;
+
+    synchronized void record(long nanos) {
+        if (size == values.length) {
+            values = Arrays.copyOf(values, size * 2);
+        }
+        values[size++] = nanos;
+    }
+
+    synchronized int count() {
+        return size;
+    }
+
+    /**
+     * "p50=1.2 p95=3.4 p99=5.6 max=7.8 (ms, n=100)" 형식 요약
+     */
+    synchronized String summary() {
+        if (size == 0) {
+            return "n=0";
+        }
+        long[] sorted = Arrays.copyOf(values, size);
+        Arrays.sort(sorted);
+        return String.format("p50=%.1f p95=%.1f p99=%.1f max=%.1f (ms, n=%d)",
+                millis(sorted, 0.50), millis(sorted, 0.95), millis(sorted, 0.99),
+                sorted[sorted.length - 1] / 1e6, sorted.length);
+    }
+
+    private static double millis(long[] sorted, double percentile) {
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(index, 0)] / 1e6;
+    }
+}
@@ -0,0 +1,257 @@
+package com.auction.auction.loadtest;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.WebSocket;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * STOMP over WebSocket 연결 하나 (입찰자 한 명)
+ * - 폼 로그인으로 받은 세션 쿠키로 /ws-auction/websocket (SockJS 원시 WebSocket 경로)에 연결
+ * - 느린 소비자는 프레임마다 지연 후 다음 프레임을 요청하므로 서버 쪽 송신 버퍼에 메시지가 쌓임
+ */
+final class StompConnection implements WebSocket.Listener {
+
+    private static final Pattern CSRF = Pattern.compile("name=\"_csrf\"\\s+value=\"([^\"]+)\"");
+    private static final Pattern SESSION = Pattern.compile("JSESSIONID=([^;]+)");
+
+    /**
+     * 수신 메시지 처리
+     */
+    interface Handler {
+        void onMessage(StompConnection connection, String destination, String body, long receivedNanos);
+
+        void onClosed(StompConnection connection, String reason);
+    }
+
+    private final String username;
+    private final boolean slow;
+    private final Executor slowExecutor;
+    private final Handler handler;
+
+    private final StringBuilder buffer = new StringBuilder();
+    private CompletableFuture<WebSocket> sending = CompletableFuture.completedFuture(null);
+    private volatile WebSocket socket;
+    private volatile CompletableFuture<Void> connected;
+    private volatile boolean open;
+    private String cookie;
+
+    StompConnection(String username, boolean slow, long slowDelayMillis, Handler handler) {
+        this.username = username;
+        this.slow = slow;
+        this.slowExecutor = CompletableFuture.delayedExecutor(slowDelayMillis, TimeUnit.MILLISECONDS);
+        this.handler = handler;
+    }
+
+    String username() {
+        return username;
+    }
+
+    boolean slow() {
+        return slow;
+    }
+
+    boolean isOpen() {
+        return open;
+    }
+
+    /**
+     * 폼 로그인 (CSRF 토큰을 로그인 페이지에서 읽어 전송), 성공하면 세션 쿠키 보관
+     */
+    void login(HttpClient http, String baseUrl, String password) throws Exception {
+        HttpResponse<String> page = http.send(HttpRequest.newBuilder(URI.create(baseUrl + "/login")).GET().build(),
+                HttpResponse.BodyHandlers.ofString());
+        Matcher csrf = CSRF.matcher(page.body());
+        String session = sessionOf(page);
+        if (!csrf.find() || session == null) {
+            throw new IllegalStateException("로그인 페이지에서 CSRF 토큰/세션을 찾을 수 없음: " + page.statusCode());
+        }
+
+        String form = "username=" + encode(username) + "&password=" + encode(password) + "&_csrf=" + encode(csrf.group(1));
+        HttpResponse<Void> result = http.send(HttpRequest.newBuilder(URI.create(baseUrl + "/login"))
+                        .header("Content-Type", "application/x-www-form-urlencoded")
+                        .header("Cookie", "JSESSIONID=" + session)
+                        .POST(HttpRequest.BodyPublishers.ofString(form))
+                        .build(),
+                HttpResponse.BodyHandlers.discarding());
+        String location = result.headers().firstValue("Location").orElse("");
+        if (result.statusCode() != 302 || location.contains("error")) {
+            throw new IllegalStateException("로그인 실패: " + username + " (" + result.statusCode() + " " + location + ")");
+        }
+        // 로그인 시 세션 ID 가 바뀜 (세션 고정 방지)
+        String renewed = sessionOf(result);
+        cookie = "JSESSIONID=" + (renewed != null ? renewed : session);
+    }
+
+    /**
+     * WebSocket 연결 + STOMP CONNECT, CONNECTED 를 받으면 완료
+     */
+    CompletableFuture<Void> connect(HttpClient http, String baseUrl) {
+        String wsUrl = baseUrl.replaceFirst("^http", "ws") + "/ws-auction/websocket";
+        CompletableFuture<Void> stompConnected = new CompletableFuture<>();
+        connected = stompConnected;
+        synchronized (this) {
+            buffer.setLength(0);
+        }
+        http.newWebSocketBuilder()
+                .header("Cookie", cookie)
+                .connectTimeout(Duration.ofSeconds(10))
+                .buildAsync(URI.create(wsUrl), this)
+                .whenComplete((ws, error) -> {
+                    if (error != null) {
+                        stompConnected.completeExceptionally(error);
+                        return;
+                    }
+                    socket = ws;
+                    synchronized (this) {
+                        sending = CompletableFuture.completedFuture(ws);
+                    }
+                    send("CONNECT\naccept-version:1.2\nhost:localhost\nheart-beat:0,0\n\n");
+                });
+        return stompConnected;
+    }
+
+    void subscribe(String id, String destination) {
+        send("SUBSCRIBE\nid:" + id + "\ndestination:" + destination + "\n\n");
+    }
+
+    void sendJson(String destination, String json) {
+        send("SEND\ndestination:" + destination + "\ncontent-type:application/json\ncontent-length:"
+                + json.getBytes(StandardCharsets.UTF_8).length + "\n\n" + json);
+    }
+
+    /**
+     * 연결을 끊음 (graceful=false 면 종료 핸드셰이크 없이 끊어 재연결 폭주 상황을 흉내냄)
+     */
+    void close(boolean graceful) {
+        WebSocket ws = socket;
+        open = false;
+        if (ws == null) {
+            return;
+        }
+        if (graceful) {
+            ws.sendClose(WebSocket.NORMAL_CLOSURE, "bye");
+        } else {
+            ws.abort();
+        }
+    }
+
+    // JDK WebSocket 은 동시 전송을 허용하지 않으므로 이전 전송이 끝난 뒤 이어서 보냄
+    private synchronized void send(String frame) {
+        sending = sending.thenCompose(ws -> ws.sendText(frame + "\u0000", true));
+    }
+
+    @Override
+    public void onOpen(WebSocket webSocket) {
+        webSocket.request(1);
+    }
+
+    @Override
+    public CompletionStage<?> onText(WebSocket webSocket, CharSequence data, boolean last) {
+        long receivedNanos = System.nanoTime();
+        String frames = null;
+        synchronized (this) {
+            buffer.append(data);
+            if (last) {
+                frames = buffer.toString();
+                buffer.setLength(0);
+            }
+        }
+        if (frames != null) {
+            for (String frame : frames.split("\u0000")) {
+                handleFrame(frame, receivedNanos);
+            }
+        }
+
+        if (slow) {
+            slowExecutor.execute(() -> webSocket.request(1));
+        } else {
+            webSocket.request(1);
+        }
+        return null;
+    }
+
+    @Override
+    public CompletionStage<?> onClose(WebSocket webSocket, int statusCode, String reason) {
+        closed("close " + statusCode + (reason == null || reason.isEmpty() ? "" : " " + reason));
+        return null;
+    }
+
+    @Override
+    public void onError(WebSocket webSocket, Throwable error) {
+        closed("error " + error.getClass().getSimpleName());
+    }
+
+    private void closed(String reason) {
+        boolean wasOpen = open;
+        open = false;
+        CompletableFuture<Void> pending = connected;
+        if (pending != null && !pending.isDone()) {
+            pending.completeExceptionally(new IllegalStateException(reason));
+        }
+        if (wasOpen) {
+            handler.onClosed(this, reason);
+        }
+    }
+
+    private void handleFrame(String frame, long receivedNanos) {
+        // 프레임 사이의 빈 줄(하트비트) 무시
+        int startIndex = 0;
+        while (startIndex < frame.length() && (frame.charAt(startIndex) == '\n' || frame.charAt(startIndex) == '\r')) {
+            startIndex++;
+        }
+        if (startIndex == frame.length()) {
+            return;
+        }
+
+        int headerEnd = frame.indexOf("\n\n", startIndex);
+        String head = headerEnd < 0 ? frame.substring(startIndex) : frame.substring(startIndex, headerEnd);
+        String body = headerEnd < 0 ? "" : frame.substring(headerEnd + 2);
+        String[] lines = head.split("\n");
+        String command = lines[0].trim();
+        Map<String, String> headers = new HashMap<>();
+        for (int i = 1; i < lines.length; i++) {
+            int colon = lines[i].indexOf(':');
+            if (colon > 0) {
+                headers.putIfAbsent(lines[i].substring(0, colon), lines[i].substring(colon + 1).trim());
+            }
+        }
+
+        switch (command) {
+            case "CONNECTED" -> {
+                open = true;
+                connected.complete(null);
+            }
+            case "MESSAGE" -> handler.onMessage(this, headers.get("destination"), body, receivedNanos);
+            case "ERROR" -> closed("stomp error " + headers.getOrDefault("message", ""));
+            default -> {
+            }
+        }
+    }
+
+    private static String sessionOf(HttpResponse<?> response) {
+        for (String value : response.headers().allValues("Set-Cookie")) {
+            Matcher matcher = SESSION.matcher(value);
+            if (matcher.find()) {
+                return matcher.group(1);
+            }
+        }
+        return null;
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+}
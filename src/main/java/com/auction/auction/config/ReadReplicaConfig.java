@@ -0,0 +1,85 @@
+package com.auction.auction.config;
+
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.auction.auction.datasource.ReplicaLagGuard;
+import com.auction.auction.datasource.ReplicaLagMonitor;
+import com.auction.auction.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * 읽기 전용 DB(복제본) 라우팅 설정 (datasource.replica.url 을 지정했을 때만)
+ * 지정하지 않으면 Spring Boot 기본 DataSource 하나만 사용
+ * 주 DB 는 spring.datasource.* / spring.datasource.hikari.*, 복제본은 datasource.replica.* / datasource.replica.hikari.*
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.replica.url")
+public class ReadReplicaConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(
+            @Value("${spring.datasource.url}") String url,
+            @Value("${spring.datasource.username}") String username,
+            @Value("${spring.datasource.password}") String password,
+            @Value("${spring.datasource.driver-class-name}") String driverClassName) {
+        return hikari("auction-primary", url, username, password, driverClassName);
+    }
+
+    @Bean
+    @ConfigurationProperties("datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(
+            @Value("${datasource.replica.url}") String url,
+            @Value("${datasource.replica.username:${spring.datasource.username}}") String username,
+            @Value("${datasource.replica.password:${spring.datasource.password}}") String password,
+            @Value("${spring.datasource.driver-class-name}") String driverClassName) {
+        HikariDataSource dataSource = hikari("auction-replica", url, username, password, driverClassName);
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(HikariDataSource replicaDataSource,
+                                               @Value("${datasource.replica.max-lag-seconds:2}") long maxLagSeconds) {
+        return new ReplicaLagMonitor(replicaDataSource, maxLagSeconds);
+    }
+
+    /**
+     * JPA, Flyway, JdbcTemplate 이 사용하는 DataSource
+     * 실제 커넥션은 첫 SQL 실행 시점에 가져오므로 그때 정해진 트랜잭션 readOnly 여부로 주 DB / 복제본 선택
+     * 트랜잭션마다 커넥션을 새로 가져와야 하므로 spring.jpa.open-in-view=false 필요 (요청 단위로 커넥션을 잡지 않음)
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, HikariDataSource replicaDataSource,
+                                 ReplicaLagMonitor replicaLagMonitor, ReplicaLagGuard replicaLagGuard) {
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(replicaLagMonitor, replicaLagGuard);
+        routing.setTargetDataSources(Map.of(
+                ReplicaRoutingDataSource.Route.PRIMARY, primaryDataSource,
+                ReplicaRoutingDataSource.Route.REPLICA, replicaDataSource));
+        routing.setDefaultTargetDataSource(primaryDataSource);
+        routing.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    private static HikariDataSource hikari(String poolName, String url, String username, String password,
+                                           String driverClassName) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName(poolName);
+        dataSource.setJdbcUrl(url);
+        dataSource.setUsername(username);
+        dataSource.setPassword(password);
+        dataSource.setDriverClassName(driverClassName);
+        return dataSource;
+    }
+}
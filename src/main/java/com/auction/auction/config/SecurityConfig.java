@@ -2,6 +2,7 @@ package com.auction.auction.config;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.security.config.Customizer;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -36,6 +37,9 @@ public class SecurityConfig {
                 // WebSocket 엔드포인트 허용
                 .requestMatchers("/ws-auction/**").permitAll()
                 .requestMatchers("/webjars/**").permitAll()
+                // 헬스 체크만 공개, 메트릭(Prometheus 스크레이프 포함)은 인증 필요 (HTTP Basic)
+                .requestMatchers("/actuator/health").permitAll()
+                .requestMatchers("/actuator/**").authenticated()
                 // 공개 페이지
                 .requestMatchers("/", "/signup", "/login").permitAll()
                 .requestMatchers("/items", "/items/**").permitAll()
@@ -57,7 +61,9 @@ public class SecurityConfig {
                 .logoutUrl("/logout")
                 .logoutSuccessUrl("/")
                 .permitAll()
-            );
+            )
+            // 로그인 화면을 쓸 수 없는 수집기(Prometheus)용
+            .httpBasic(Customizer.withDefaults());
 
         return http.build();
     }
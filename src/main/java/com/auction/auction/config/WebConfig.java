@@ -22,6 +22,9 @@ public class WebConfig implements WebMvcConfigurer {
     @Value("${file.upload-dir}")
     private String uploadDir;
 
+    @Value("${file.storage.type:local}")
+    private String storageType;
+
     /**
      * LocaleResolver 설정
      * 세션에 언어 정보를 저장하고, 기본 언어는 한국어로 설정
@@ -46,22 +49,10 @@ public class WebConfig implements WebMvcConfigurer {
 
     @Override
     public void addResourceHandlers(ResourceHandlerRegistry registry) {
-        // /uploads/images/** 경로로 접근 시 실제 파일 시스템의 uploads/images 폴더로 매핑
-        // context-path가 /auction이므로 실제 접근 경로는 /auction/uploads/images/**가 됨
-
-        // classpath 기준 상대 경로 또는 file: 프로토콜 사용
-        // file:./ 는 애플리케이션 실행 디렉토리 기준 상대 경로
-        String resourceLocation = "file:./" + uploadDir + "/";
-
-        log.info("==== Static Resource Mapping ====");
-        log.info("Upload Directory: {}", uploadDir);
-        log.info("Resource Location: {}", resourceLocation);
-        log.info("Handler Pattern: /uploads/images/**");
-        log.info("Working Directory: {}", System.getProperty("user.dir"));
-        log.info("=================================");
-
-        registry.addResourceHandler("/uploads/images/**")
-                .addResourceLocations(resourceLocation);
+        // /uploads/images/** 는 UploadedImageController 가 ImageStore 를 통해 캐시 헤더, 조건부 요청, Range 와 함께 제공
+        // (file.storage.type=s3 이면 file.upload-dir 은 읽기 캐시 디렉토리)
+        log.info("Image Storage: {}, Upload Directory: {} (Working Directory: {})",
+                storageType, uploadDir, System.getProperty("user.dir"));
 
         // WebJars 리소스 매핑 (SockJS, STOMP 등)
         registry.addResourceHandler("/webjars/**")
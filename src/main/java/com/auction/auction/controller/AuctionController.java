@@ -1,7 +1,14 @@
 package com.auction.auction.controller;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
 import java.util.List;
 
+import org.springframework.context.MessageSource;
+import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -11,13 +18,22 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import com.auction.auction.dto.MyAuctionResponse;
+import com.auction.auction.dto.MyAuctionRow;
 import com.auction.auction.model.AuctionParticipant;
 import com.auction.auction.model.Bid;
+import com.auction.auction.model.Item.ItemStatus;
 import com.auction.auction.model.User;
 import com.auction.auction.repository.UserRepository;
+import com.auction.auction.service.AuctionOutcome;
 import com.auction.auction.service.AuctionService;
+import com.auction.auction.service.ImageVariantService;
+import com.auction.auction.service.ImageVariantService.Variant;
+import com.auction.auction.service.ProxyBidService;
 
 import lombok.RequiredArgsConstructor;
 
@@ -26,8 +42,14 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class AuctionController {
 
+    // 내 경매방 카드에 보여줄 설명 길이
+    private static final int SUMMARY_LENGTH = 100;
+
     private final AuctionService auctionService;
+    private final ProxyBidService proxyBidService;
     private final UserRepository userRepository;
+    private final MessageSource messageSource;
+    private final ImageVariantService imageVariantService;
 
     /**
      * 경매 참여
@@ -40,7 +62,10 @@ public class AuctionController {
             User user = userRepository.findByUsername(userDetails.getUsername())
                     .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
 
-            auctionService.joinAuction(itemId, user);
+            AuctionOutcome<AuctionParticipant> outcome = auctionService.joinAuction(itemId, user);
+            if (outcome instanceof AuctionOutcome.Rejected<AuctionParticipant> rejected) {
+                return ResponseEntity.badRequest().body(messageOf(rejected));
+            }
             return ResponseEntity.ok().body("경매 참여가 완료되었습니다.");
         } catch (IllegalStateException | IllegalArgumentException e) {
             return ResponseEntity.badRequest().body(e.getMessage());
@@ -48,16 +73,26 @@ public class AuctionController {
     }
 
     /**
-     * 내가 참여한 경매 목록
+     * 내가 참여한 경매 목록 (물건 요약, 내 최고 입찰가, 선두 여부, 마감 시각)
+     * 한 번의 집계 쿼리로 만들고, 목록이 바뀌지 않았으면(If-None-Match 일치) 직렬화 없이 304
      */
     @GetMapping("/my-auctions")
-    public ResponseEntity<List<AuctionParticipant>> getMyAuctions(
-            @AuthenticationPrincipal UserDetails userDetails) {
+    public ResponseEntity<List<MyAuctionResponse>> getMyAuctions(
+            @AuthenticationPrincipal UserDetails userDetails,
+            WebRequest request) {
         User user = userRepository.findByUsername(userDetails.getUsername())
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
 
-        List<AuctionParticipant> participants = auctionService.getUserAuctions(user.getId());
-        return ResponseEntity.ok(participants);
+        List<MyAuctionRow> rows = auctionService.getMyAuctions(user.getId());
+        String etag = etagOf(user.getId(), rows);
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+
+        List<MyAuctionResponse> response = rows.stream()
+                .map(row -> toMyAuctionResponse(row, user.getId()))
+                .toList();
+        return ETags.ok(etag, response);
     }
 
     /**
@@ -70,12 +105,20 @@ public class AuctionController {
     }
 
     /**
-     * 특정 경매의 입찰 내역
+     * 특정 경매의 입찰 내역 (오래전에 종료된 경매는 includeArchived=true 로 보관된 입찰까지 조회)
+     * ETag 는 마지막 입찰 번호와 입찰 수로 만들고, 새 입찰이 없으면 내역을 읽지 않고 304
      */
     @GetMapping("/{itemId}/bids")
-    public ResponseEntity<List<Bid>> getAuctionBids(@PathVariable("itemId") Long itemId) {
-        List<Bid> bids = auctionService.getAuctionBids(itemId);
-        return ResponseEntity.ok(bids);
+    public ResponseEntity<List<Bid>> getAuctionBids(
+            @PathVariable("itemId") Long itemId,
+            @RequestParam(name = "includeArchived", defaultValue = "false") boolean includeArchived,
+            WebRequest request) {
+        String etag = ETags.strong("bids", auctionService.getAuctionBidsTag(itemId, includeArchived));
+        if (ETags.notModified(request, etag)) {
+            return null;
+        }
+        List<Bid> bids = auctionService.getAuctionBids(itemId, includeArchived);
+        return ETags.ok(etag, bids);
     }
 
     /**
@@ -90,8 +133,34 @@ public class AuctionController {
             User user = userRepository.findByUsername(userDetails.getUsername())
                     .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
 
-            Bid bid = auctionService.placeBid(itemId, user, request.getBidAmount());
-            return ResponseEntity.ok(bid);
+            // 자동 입찰이 응답한 경우에도 사용자가 직접 한 입찰을 반환
+            AuctionOutcome<List<Bid>> outcome = proxyBidService.placeBid(itemId, user, request.getBidAmount());
+            if (outcome instanceof AuctionOutcome.Rejected<List<Bid>> rejected) {
+                return ResponseEntity.badRequest().body(messageOf(rejected));
+            }
+            return ResponseEntity.ok(((AuctionOutcome.Accepted<List<Bid>>) outcome).value().get(0));
+        } catch (IllegalStateException | IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    /**
+     * 자동 입찰 등록 (최대 입찰가)
+     */
+    @PostMapping("/{itemId}/proxy-bid")
+    public ResponseEntity<?> registerProxyBid(
+            @PathVariable("itemId") Long itemId,
+            @RequestBody ProxyBidRequest request,
+            @AuthenticationPrincipal UserDetails userDetails) {
+        try {
+            User user = userRepository.findByUsername(userDetails.getUsername())
+                    .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+
+            AuctionOutcome<List<Bid>> outcome = proxyBidService.registerMaxBid(itemId, user, request.getMaxAmount());
+            if (outcome instanceof AuctionOutcome.Rejected<List<Bid>> rejected) {
+                return ResponseEntity.badRequest().body(messageOf(rejected));
+            }
+            return ResponseEntity.ok(((AuctionOutcome.Accepted<List<Bid>>) outcome).value());
         } catch (IllegalStateException | IllegalArgumentException e) {
             return ResponseEntity.badRequest().body(e.getMessage());
         }
@@ -109,12 +178,56 @@ public class AuctionController {
                     .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
 
             auctionService.leaveAuction(itemId, user.getId());
+            proxyBidService.cancelMaxBid(itemId, user.getId());
             return ResponseEntity.ok().body("경매방에서 나갔습니다.");
-        } catch (IllegalArgumentException e) {
+        } catch (IllegalStateException | IllegalArgumentException e) {
             return ResponseEntity.badRequest().body(e.getMessage());
         }
     }
 
+    private MyAuctionResponse toMyAuctionResponse(MyAuctionRow row, Long userId) {
+        LocalDateTime deadline = row.status() == ItemStatus.RECRUITING ? row.recruitmentEndTime()
+                : row.status() == ItemStatus.AUCTION_STARTED ? row.endTime() : null;
+        String summary = row.description().length() > SUMMARY_LENGTH
+                ? row.description().substring(0, SUMMARY_LENGTH) + "..." : row.description();
+        return new MyAuctionResponse(
+                row.itemId(),
+                row.title(),
+                summary,
+                row.imageUrl(),
+                imageVariantService.variantUrl(row.imageUrl(), Variant.LIST),
+                row.status().name(),
+                row.startPrice(),
+                row.currentPrice(),
+                row.myHighestBid(),
+                userId.equals(row.leaderId()),
+                userId.equals(row.winnerId()),
+                row.bidCount(),
+                row.participantCount(),
+                deadline,
+                row.joinedAt()
+        );
+    }
+
+    // 응답에 들어가는 모든 값으로 만든 강한 ETag (현재 시각에 따라 바뀌는 값은 응답에 넣지 않음)
+    private static String etagOf(Long userId, List<MyAuctionRow> rows) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(String.valueOf(userId).getBytes(StandardCharsets.UTF_8));
+            for (MyAuctionRow row : rows) {
+                digest.update(row.toString().getBytes(StandardCharsets.UTF_8));
+            }
+            return "\"" + HexFormat.of().formatHex(digest.digest(), 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 거절 사유 코드를 요청 언어의 i18n 메시지로 변환
+    private String messageOf(AuctionOutcome.Rejected<?> rejected) {
+        return messageSource.getMessage(rejected.reason().getMessageKey(), rejected.args(), LocaleContextHolder.getLocale());
+    }
+
     // DTO
     public static class BidRequest {
         private Long bidAmount;
@@ -127,4 +240,16 @@ public class AuctionController {
             this.bidAmount = bidAmount;
         }
     }
+
+    public static class ProxyBidRequest {
+        private Long maxAmount;
+
+        public Long getMaxAmount() {
+            return maxAmount;
+        }
+
+        public void setMaxAmount(Long maxAmount) {
+            this.maxAmount = maxAmount;
+        }
+    }
 }
@@ -0,0 +1,42 @@
+package com.auction.auction.controller;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+/**
+ * 조회 API 의 조건부 요청 처리 (If-None-Match / ETag)
+ * ETag 값은 응답 본문을 만들기 전에 구할 수 있는 값(변경 순번, 버전, 마지막 입찰 번호)으로 만들고,
+ * 일치하면 엔티티를 읽거나 직렬화하지 않고 바로 304
+ * 응답 압축(server.compression) 시 Tomcat 이 ETag 를 약한 ETag(W/)로 바꾸지만 If-None-Match 는 약한 비교라 그대로 일치
+ */
+final class ETags {
+
+    private ETags() {
+    }
+
+    /**
+     * 강한 ETag (값이 null 이면 null: 아직 ETag 를 줄 수 없는 상태)
+     */
+    static String strong(String prefix, String value) {
+        return value == null ? null : "\"" + prefix + "-" + value + "\"";
+    }
+
+    /**
+     * If-None-Match 가 ETag 와 일치하면 true (304 응답은 WebRequest 가 설정하므로 호출자는 null 반환)
+     */
+    static boolean notModified(WebRequest request, String etag) {
+        return etag != null && request.checkNotModified(etag);
+    }
+
+    /**
+     * 200 응답 + ETag, 로그인 사용자별 데이터이므로 공유 캐시에는 저장하지 않고 매번 재검증
+     */
+    static <T> ResponseEntity<T> ok(String etag, T body) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok().cacheControl(CacheControl.noCache().cachePrivate());
+        if (etag != null) {
+            builder.eTag(etag);
+        }
+        return builder.body(body);
+    }
+}
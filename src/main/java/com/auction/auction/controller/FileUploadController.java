@@ -1,13 +1,7 @@
 package com.auction.auction.controller;
 
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
-import java.util.UUID;
 
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -15,12 +9,17 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
 
+import com.auction.auction.service.ImageStorageService;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+
 @RestController
 @RequestMapping("/api")
+@RequiredArgsConstructor
 public class FileUploadController {
 
-    @Value("${file.upload-dir}")
-    private String uploadDir;
+    private final ImageStorageService imageStorageService;
 
     @PostMapping("/upload")
     public ResponseEntity<?> uploadImage(@RequestParam("file") MultipartFile file) {
@@ -30,44 +29,38 @@ public class FileUploadController {
                 return ResponseEntity.badRequest().body("파일이 비어있습니다.");
             }
 
-            // 파일 확장자 검증
-            String originalFilename = file.getOriginalFilename();
-            String extension = originalFilename.substring(originalFilename.lastIndexOf("."));
-            if (!isImageFile(extension)) {
-                return ResponseEntity.badRequest().body("이미지 파일만 업로드 가능합니다. (jpg, jpeg, png, gif)");
-            }
+            // 형식은 확장자가 아닌 파일 시그니처로 검증
+            return ResponseEntity.ok().body(toResponse(imageStorageService.store(file.getInputStream())));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (IOException e) {
+            return ResponseEntity.internalServerError().body("파일 업로드 실패: " + e.getMessage());
+        }
+    }
 
-            // 업로드 디렉토리 생성
-            Path uploadPath = Paths.get(uploadDir);
-            if (!Files.exists(uploadPath)) {
-                Files.createDirectories(uploadPath);
+    /**
+     * 스트리밍 업로드
+     * multipart 파싱 없이 요청 본문(이미지 바이트)을 그대로 디스크에 기록
+     * 예: fetch('/auction/api/upload/stream', { method: 'POST', body: file })
+     */
+    @PostMapping("/upload/stream")
+    public ResponseEntity<?> uploadImageStream(HttpServletRequest request) {
+        try {
+            if (request.getContentLengthLong() == 0) {
+                return ResponseEntity.badRequest().body("파일이 비어있습니다.");
             }
 
-            // 고유한 파일명 생성 (UUID + 원본 확장자)
-            String filename = UUID.randomUUID().toString() + extension;
-            Path filePath = uploadPath.resolve(filename);
-
-            // 파일 저장
-            Files.copy(file.getInputStream(), filePath, StandardCopyOption.REPLACE_EXISTING);
-
-            // 저장된 파일의 URL 반환 (웹에서 접근 가능한 경로)
-            String fileUrl = "/uploads/images/" + filename;
-
-            return ResponseEntity.ok().body(new FileUploadResponse(fileUrl, filename));
-
+            return ResponseEntity.ok().body(toResponse(imageStorageService.store(request.getInputStream())));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
         } catch (IOException e) {
             return ResponseEntity.internalServerError().body("파일 업로드 실패: " + e.getMessage());
         }
     }
 
-    // 이미지 파일 확장자 검증
-    private boolean isImageFile(String extension) {
-        extension = extension.toLowerCase();
-        return extension.equals(".jpg") ||
-               extension.equals(".jpeg") ||
-               extension.equals(".png") ||
-               extension.equals(".gif") ||
-               extension.equals(".webp");
+    // 저장된 파일의 URL 반환 (웹에서 접근 가능한 경로, 같은 내용이면 같은 URL)
+    private FileUploadResponse toResponse(String path) {
+        return new FileUploadResponse("/uploads/images/" + path, path);
     }
 
     // 응답 DTO
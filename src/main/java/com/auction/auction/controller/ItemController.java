@@ -1,6 +1,7 @@
 package com.auction.auction.controller;
 
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.springframework.http.ResponseEntity;
@@ -13,11 +14,17 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import com.auction.auction.dto.ItemRequest;
 import com.auction.auction.dto.ItemResponse;
 import com.auction.auction.model.Item;
+import com.auction.auction.model.Item.ItemStatus;
+import com.auction.auction.service.ImageVariantService;
+import com.auction.auction.service.ImageVariantService.Variant;
+import com.auction.auction.service.ItemChangeSequence;
 import com.auction.auction.service.ItemService;
 
 import jakarta.validation.Valid;
@@ -29,6 +36,8 @@ import lombok.RequiredArgsConstructor;
 public class ItemController {
 
     private final ItemService itemService;
+    private final ImageVariantService imageVariantService;
+    private final ItemChangeSequence changeSequence;
 
     // 물건 등록
     @PostMapping
@@ -52,47 +61,84 @@ public class ItemController {
         }
     }
 
-    // 전체 목록 조회
+    // 전체 목록 조회 (목록이 바뀌지 않았으면 DB 조회 없이 304)
     @GetMapping
-    public ResponseEntity<List<ItemResponse>> getAllItems() {
+    public ResponseEntity<List<ItemResponse>> getAllItems(WebRequest request) {
+        String etag = ETags.strong("items", changeSequence.tag());
+        if (ETags.notModified(request, etag)) {
+            return null;
+        }
         List<Item> items = itemService.getAllItems();
         List<ItemResponse> response = items.stream()
                 .map(this::convertToResponse)
                 .collect(Collectors.toList());
-        return ResponseEntity.ok(response);
+        return ETags.ok(etag, response);
     }
 
-    // 진행 중인 경매만 조회
+    // 진행 중인 경매만 조회 (목록이 바뀌지 않았으면 DB 조회 없이 304)
     @GetMapping("/active")
-    public ResponseEntity<List<ItemResponse>> getActiveItems() {
+    public ResponseEntity<List<ItemResponse>> getActiveItems(WebRequest request) {
+        String etag = ETags.strong("active", changeSequence.tag());
+        if (ETags.notModified(request, etag)) {
+            return null;
+        }
         List<Item> items = itemService.getActiveItems();
         List<ItemResponse> response = items.stream()
                 .map(this::convertToResponse)
                 .collect(Collectors.toList());
-        return ResponseEntity.ok(response);
+        return ETags.ok(etag, response);
     }
 
-    // 상세 조회
+    // 검색 (제목/설명, 관련도순, 검색 조건은 URL 에 있으므로 ETag 는 목록 변경 순번만 사용)
+    @GetMapping("/search")
+    public ResponseEntity<List<ItemResponse>> searchItems(
+            @RequestParam("q") String query,
+            @RequestParam(value = "status", required = false) Set<ItemStatus> statuses,
+            @RequestParam(value = "minPrice", required = false) Long minPrice,
+            @RequestParam(value = "maxPrice", required = false) Long maxPrice,
+            @RequestParam(value = "limit", defaultValue = "20") int limit,
+            WebRequest request) {
+        String etag = ETags.strong("search", changeSequence.tag());
+        if (ETags.notModified(request, etag)) {
+            return null;
+        }
+        List<Item> items = itemService.searchItems(query, statuses, minPrice, maxPrice, Math.min(Math.max(limit, 1), 100));
+        List<ItemResponse> response = items.stream()
+                .map(this::convertToResponse)
+                .collect(Collectors.toList());
+        return ETags.ok(etag, response);
+    }
+
+    // 상세 조회 (물건 버전이 같으면 엔티티를 읽지 않고 304)
     @GetMapping("/{id}")
-    public ResponseEntity<?> getItem(@PathVariable("id") Long id) {
+    public ResponseEntity<?> getItem(@PathVariable("id") Long id, WebRequest request) {
         try {
+            String etag = ETags.strong("item", itemService.getItemTag(id).orElse(null));
+            if (ETags.notModified(request, etag)) {
+                return null;
+            }
             Item item = itemService.getItem(id);
             ItemResponse response = convertToResponse(item);
-            return ResponseEntity.ok(response);
+            return ETags.ok(etag, response);
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(e.getMessage());
         }
     }
 
-    // 내가 등록한 물건 조회
+    // 내가 등록한 물건 조회 (목록이 바뀌지 않았으면 DB 조회 없이 304)
     @GetMapping("/my")
     public ResponseEntity<List<ItemResponse>> getMyItems(
-            @AuthenticationPrincipal UserDetails userDetails) {
+            @AuthenticationPrincipal UserDetails userDetails,
+            WebRequest request) {
+        String etag = ETags.strong("my-" + userDetails.getUsername(), changeSequence.tag());
+        if (ETags.notModified(request, etag)) {
+            return null;
+        }
         List<Item> items = itemService.getMyItems(userDetails.getUsername());
         List<ItemResponse> response = items.stream()
                 .map(this::convertToResponse)
                 .collect(Collectors.toList());
-        return ResponseEntity.ok(response);
+        return ETags.ok(etag, response);
     }
 
     // 물건 수정
@@ -140,13 +186,18 @@ public class ItemController {
                 item.getStartPrice(),
                 item.getCurrentPrice(),
                 item.getImageUrl(),
+                imageVariantService.variantUrl(item.getImageUrl(), Variant.THUMBNAIL),
+                imageVariantService.variantUrl(item.getImageUrl(), Variant.LIST),
                 item.getStatus().name(),
                 item.getRecruitmentEndTime(),
                 item.getAuctionStartTime(),
                 item.getEndTime(),
                 item.getSeller().getUsername(),
                 item.getWinnerId(),
-                item.getCreatedAt()
+                item.getCreatedAt(),
+                item.getBidCount(),
+                item.getParticipantCount(),
+                item.getLeaderName()
         );
     }
 }
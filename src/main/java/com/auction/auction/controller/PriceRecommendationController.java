@@ -0,0 +1,63 @@
+package com.auction.auction.controller;
+
+import java.util.Map;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.auction.auction.dto.PriceRecommendation;
+import com.auction.auction.service.PriceEstimationService;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 가격 추천 API
+ * 우리 서비스 낙찰 내역으로 먼저 추정하고, 부족하면 가격 추천 서버를 서버에서 대신 호출 (캐시, 시간 제한, 서킷 브레이커 적용)
+ */
+@RestController
+@RequestMapping("/api")
+@RequiredArgsConstructor
+public class PriceRecommendationController {
+
+    private final PriceEstimationService priceEstimationService;
+
+    @PostMapping("/price-recommendation")
+    public ResponseEntity<?> recommend(@RequestBody RecommendationRequest request) {
+        try {
+            PriceRecommendation result = priceEstimationService.recommend(request.getTitle(), request.getDescription());
+            return ResponseEntity.ok(Map.of("success", true, "data", result));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("success", false, "error", e.getMessage()));
+        } catch (IllegalStateException e) {
+            // 추천 서버가 느리거나 차단된 경우 (UI 는 바로 응답을 받고 나중에 다시 시도)
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .body(Map.of("success", false, "error", e.getMessage()));
+        }
+    }
+
+    // 요청 DTO
+    public static class RecommendationRequest {
+        private String title;
+        private String description;
+
+        public String getTitle() {
+            return title;
+        }
+
+        public void setTitle(String title) {
+            this.title = title;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+
+        public void setDescription(String description) {
+            this.description = description;
+        }
+    }
+}
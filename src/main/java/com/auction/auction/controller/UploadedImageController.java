@@ -0,0 +1,140 @@
+package com.auction.auction.controller;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import com.auction.auction.storage.ImageStore;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 업로드 이미지 제공
+ * - 파일명이 내용 해시(또는 UUID)라서 내용이 바뀌지 않으므로 1년 immutable 캐시
+ * - ETag 는 파일명(내용 해시)으로 만들어 저장소나 인스턴스가 달라도 같은 값
+ * - ETag / Last-Modified 조건부 요청은 304, 단일 Range 요청은 206 으로 응답
+ * - 파일은 ImageStore 의 로컬 파일(원격 저장소는 읽기 캐시)에서 제공
+ * - 이미지는 이미 압축된 형식이므로 Content-Encoding 압축은 하지 않음
+ * - 본문은 Tomcat sendfile(커널 zero-copy)로 전송하고, 지원하지 않으면 FileChannel.transferTo 사용
+ */
+@Controller
+@RequiredArgsConstructor
+public class UploadedImageController {
+
+    private static final String URL_PREFIX = "/uploads/images/";
+    private static final String CACHE_CONTROL = "public, max-age=31536000, immutable";
+
+    // Tomcat NIO 커넥터의 sendfile 요청 속성
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final ImageStore imageStore;
+
+    @GetMapping(URL_PREFIX + "**")
+    public void serve(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        Path file = resolve(request);
+        if (file == null) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        long lastModified = Files.getLastModifiedTime(file).toMillis();
+        long length = Files.size(file);
+        String etag = etagOf(file);
+
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        if (new ServletWebRequest(request, response).checkNotModified(etag, lastModified)) {
+            return; // 304 Not Modified
+        }
+
+        MediaType mediaType = MediaTypeFactory.getMediaType(file.getFileName().toString())
+                .orElse(MediaType.APPLICATION_OCTET_STREAM);
+        response.setContentType(mediaType.toString());
+
+        long start = 0;
+        long end = length; // exclusive
+        String range = request.getHeader(HttpHeaders.RANGE);
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (range != null && (ifRange == null || ifRange.equals(etag))) {
+            List<HttpRange> ranges;
+            try {
+                ranges = HttpRange.parseRanges(range);
+            } catch (IllegalArgumentException e) {
+                ranges = List.of();
+            }
+            if (ranges.size() == 1) {
+                start = ranges.get(0).getRangeStart(length);
+                end = ranges.get(0).getRangeEnd(length) + 1;
+                if (start >= length) {
+                    response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                    response.sendError(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                    return;
+                }
+                response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + (end - 1) + "/" + length);
+            }
+            // 여러 구간 요청은 전체 응답으로 대신함
+        }
+
+        response.setContentLengthLong(end - start);
+        if ("HEAD".equals(request.getMethod())) {
+            return;
+        }
+        transfer(request, response, file, start, end);
+    }
+
+    // 요청 경로를 저장소의 로컬 파일로 변환 (잘못된 경로거나 없으면 null)
+    private Path resolve(HttpServletRequest request) throws IOException {
+        String uri = request.getRequestURI().substring(request.getContextPath().length());
+        if (!uri.startsWith(URL_PREFIX)) {
+            return null;
+        }
+        String key = uri.substring(URL_PREFIX.length());
+        if (key.isEmpty() || key.contains("..") || key.contains("\\") || key.contains("%")) {
+            return null;
+        }
+        return imageStore.localFile(key);
+    }
+
+    // 파일명은 내용 해시 (변형은 해시 + 크기 접미사, 해시가 없는 예전 파일은 UUID) 이므로 파일명이 곧 강한 ETag
+    private static String etagOf(Path file) {
+        return "\"" + file.getFileName() + "\"";
+    }
+
+    private void transfer(HttpServletRequest request, HttpServletResponse response, Path file, long start, long end)
+            throws IOException {
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            // 응답 본문은 서블릿이 끝난 뒤 커넥터가 커널 sendfile 로 전송
+            request.setAttribute(SENDFILE_FILENAME, file.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end);
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            while (position < end) {
+                position += channel.transferTo(position, end - position, out);
+            }
+        }
+    }
+}
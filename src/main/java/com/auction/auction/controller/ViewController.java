@@ -1,5 +1,7 @@
 package com.auction.auction.controller;
 
+import java.util.Set;
+
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Controller;
@@ -9,6 +11,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestParam;
 
 import com.auction.auction.model.Item;
+import com.auction.auction.model.Item.ItemStatus;
 import com.auction.auction.model.User;
 import com.auction.auction.service.ItemService;
 import com.auction.auction.service.UserService;
@@ -46,8 +49,22 @@ public class ViewController {
 
     // 경매 목록 페이지
     @GetMapping("/items")
-    public String itemList(Model model) {
-        model.addAttribute("items", itemService.getActiveItems());
+    public String itemList(@RequestParam(name = "q", required = false) String query,
+                           @RequestParam(name = "status", required = false) ItemStatus status,
+                           @RequestParam(name = "minPrice", required = false) Long minPrice,
+                           @RequestParam(name = "maxPrice", required = false) Long maxPrice,
+                           Model model) {
+        if (query != null && !query.isBlank()) {
+            // 검색어가 있으면 색인 검색 (상태 미지정 시 전체 상태)
+            Set<ItemStatus> statuses = status != null ? Set.of(status) : Set.of();
+            model.addAttribute("items", itemService.searchItems(query, statuses, minPrice, maxPrice, 60));
+        } else {
+            model.addAttribute("items", itemService.getActiveItems());
+        }
+        model.addAttribute("q", query);
+        model.addAttribute("status", status);
+        model.addAttribute("minPrice", minPrice);
+        model.addAttribute("maxPrice", maxPrice);
         return "items/list";
     }
 
@@ -114,6 +131,7 @@ public class ViewController {
 
             User user = userService.getUser(userDetails.getUsername());
             model.addAttribute("user", user);
+            model.addAttribute("balance", userService.getBalance(user.getId()));
             return "profile";
         } catch (Exception e) {
             model.addAttribute("error", e.getMessage());
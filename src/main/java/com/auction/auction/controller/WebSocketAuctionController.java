@@ -1,7 +1,10 @@
 package com.auction.auction.controller;
 
 import java.security.Principal;
+import java.util.List;
+import java.util.Locale;
 
+import org.springframework.context.MessageSource;
 import org.springframework.messaging.handler.annotation.DestinationVariable;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.Payload;
@@ -9,10 +12,15 @@ import org.springframework.messaging.handler.annotation.SendTo;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Controller;
 
+import com.auction.auction.metrics.AuctionMetrics;
+import com.auction.auction.metrics.InboundTimingInterceptor;
 import com.auction.auction.model.Bid;
 import com.auction.auction.model.User;
 import com.auction.auction.repository.UserRepository;
-import com.auction.auction.service.AuctionService;
+import com.auction.auction.service.AuctionOutcome;
+import com.auction.auction.service.ProxyBidService;
+import com.auction.auction.service.RejectReason;
+import com.auction.auction.util.LogSampler;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -22,85 +30,182 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class WebSocketAuctionController {
 
-    private final AuctionService auctionService;
+    private final ProxyBidService proxyBidService;
     private final UserRepository userRepository;
     private final SimpMessagingTemplate messagingTemplate;
+    private final AuctionMetrics metrics;
+    private final MessageSource messageSource;
+
+    // 입찰 경로 상세 디버그 로그 샘플링 (N건 중 1건)
+    private final LogSampler debugSampler;
 
     /**
      * 입찰 메시지 처리
      * 클라이언트가 /app/auction/{itemId}/bid 로 메시지를 보내면
      * /topic/auction/{itemId} 를 구독하는 모든 클라이언트에게 입찰 정보를 전송
+     * (브로드캐스트 시간을 측정하기 위해 @SendTo 대신 직접 전송)
      */
     @MessageMapping("/auction/{itemId}/bid")
-    @SendTo("/topic/auction/{itemId}")
-    public BidMessage handleBid(
+    public void handleBid(
             @DestinationVariable("itemId") Long itemId,
             @Payload BidRequest request,
             Principal principal) {
 
-        log.info("==== WebSocket 입찰 요청 수신 ====");
-        log.info("물건 ID: {}", itemId);
-        log.info("입찰 금액: {}", request != null ? request.getBidAmount() : "null");
-        log.info("사용자: {}", principal != null ? principal.getName() : "null");
+        long handleStart = InboundTimingInterceptor.handleStartNanos();
+        long start = System.nanoTime();
+        if (handleStart > 0) {
+            metrics.recordSince(metrics.bidStage(AuctionMetrics.STAGE_DECODE), handleStart);
+        }
 
         try {
             if (principal == null) {
-                log.error("인증 정보가 없습니다 (principal is null)");
-                throw new IllegalStateException("로그인이 필요합니다.");
+                reject(itemId, principal, request, RejectReason.LOGIN_REQUIRED.outcome(), start);
+                return;
             }
 
             if (request == null || request.getBidAmount() == null) {
-                log.error("입찰 금액이 없습니다 (request or bidAmount is null)");
-                throw new IllegalArgumentException("입찰 금액을 입력해주세요.");
+                reject(itemId, principal, request, RejectReason.BID_AMOUNT_REQUIRED.outcome(), start);
+                return;
             }
 
-            String username = principal.getName();
-            log.info("사용자 조회 중: {}", username);
-            User user = userRepository.findByUsername(username)
-                    .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+            long userStart = System.nanoTime();
+            User user = userRepository.findByUsername(principal.getName()).orElse(null);
+            metrics.recordSince(metrics.bidStage(AuctionMetrics.STAGE_USER), userStart);
+            if (user == null) {
+                reject(itemId, principal, request, RejectReason.USER_NOT_FOUND.outcome(), start);
+                return;
+            }
 
-            log.info("입찰 처리 시작 - 사용자: {}, 금액: {}", user.getUsername(), request.getBidAmount());
-            Bid bid = auctionService.placeBid(itemId, user, request.getBidAmount());
+            // 일반 입찰 + 자동 입찰 응답을 한 번에 처리 (업무 규칙 거절은 예외 대신 거절 사유로 반환)
+            AuctionOutcome<List<Bid>> outcome = proxyBidService.placeBid(itemId, user, request.getBidAmount());
+            if (!(outcome instanceof AuctionOutcome.Accepted<List<Bid>> accepted)) {
+                reject(itemId, principal, request, outcome, start);
+                return;
+            }
+            List<Bid> bids = accepted.value();
+
+            // 입찰 성공 메시지 생성 (자동 입찰이 응답했다면 최종 상태 하나만 브로드캐스트)
+            BidMessage message = toBidMessage(itemId, bids);
+
+            long broadcastStart = System.nanoTime();
+            messagingTemplate.convertAndSend("/topic/auction/" + itemId, message);
+            metrics.recordSince(metrics.bidStage(AuctionMetrics.STAGE_BROADCAST), broadcastStart);
+
+            metrics.recordSince(metrics.bid("accepted"), start);
+            log.info("bid result=accepted item={} user={} amount={} price={} placed={} tookUs={}",
+                    itemId, principal.getName(), request.getBidAmount(), message.getBidAmount(),
+                    bids.size(), (System.nanoTime() - start) / 1000);
+            if (log.isDebugEnabled() && debugSampler.sample()) {
+                log.debug("bid detail item={} endTime={} bidTime={} bidder={}",
+                        itemId, message.getEndTime(), message.getBidTime(), message.getBidderUsername());
+            }
+        } catch (IllegalStateException | IllegalArgumentException e) {
+            // 거절 사유로 표현되지 않은 업무 예외: 스택 트레이스 없이 한 줄만 기록
+            metrics.recordSince(metrics.bid("rejected"), start);
+            log.info("bid result=rejected item={} user={} amount={} reason=\"{}\"",
+                    itemId, principal != null ? principal.getName() : null,
+                    request != null ? request.getBidAmount() : null, e.getMessage());
+            sendError(itemId, principal, e.getMessage());
+        } catch (Exception e) {
+            metrics.recordSince(metrics.bid("error"), start);
+            log.error("bid result=error item={} user={}", itemId, principal != null ? principal.getName() : null, e);
+            sendError(itemId, principal, e.getMessage());
+        }
+    }
 
-            log.info("입찰 성공! 입찰 ID: {}, 금액: {}", bid.getId(), bid.getBidAmount());
+    // 예상된 업무 거절: 사유 코드로 한 줄만 기록하고 요청한 사용자에게 메시지 전송
+    private void reject(Long itemId, Principal principal, BidRequest request, AuctionOutcome<?> outcome, long start) {
+        AuctionOutcome.Rejected<?> rejected = (AuctionOutcome.Rejected<?>) outcome;
+        metrics.recordSince(metrics.bid("rejected"), start);
+        log.info("bid result=rejected item={} user={} amount={} reason={}",
+                itemId, principal != null ? principal.getName() : null,
+                request != null ? request.getBidAmount() : null, rejected.reason());
+        sendError(itemId, principal, messageOf(rejected));
+    }
 
-            // 입찰 성공 메시지 생성
-            BidMessage message = new BidMessage();
-            message.setItemId(itemId);
-            message.setBidAmount(bid.getBidAmount());
-            message.setBidderUsername(user.getUsername());
-            message.setBidderName(user.getName());
-            message.setBidTime(bid.getBidTime().toString());
-            message.setSuccess(true);
+    // 거절 사유 코드를 i18n 메시지로 변환 (WebSocket 세션에는 사용자 언어 정보가 없으므로 기본 언어 사용)
+    private String messageOf(AuctionOutcome.Rejected<?> rejected) {
+        return messageSource.getMessage(rejected.reason().getMessageKey(), rejected.args(), Locale.KOREAN);
+    }
 
-            log.info("입찰 메시지 브로드캐스트 준비 완료");
-            log.info("====================================");
-            return message;
-        } catch (Exception e) {
-            log.error("==== 입찰 실패 ====");
-            log.error("예외 타입: {}", e.getClass().getName());
-            log.error("오류 메시지: {}", e.getMessage());
-            log.error("스택 트레이스:", e);
-            log.error("====================");
-
-            // 입찰 실패 메시지를 요청한 사용자에게만 전송
-            BidMessage errorMessage = new BidMessage();
-            errorMessage.setItemId(itemId);
-            errorMessage.setSuccess(false);
-            errorMessage.setErrorMessage(e.getMessage());
-
-            // 에러 메시지는 요청한 사용자에게만 전송
-            if (principal != null) {
-                messagingTemplate.convertAndSendToUser(
-                    principal.getName(),
-                    "/queue/errors",
-                    errorMessage
-                );
-            }
+    // 입찰 실패 메시지는 요청한 사용자에게만 전송 (브로드캐스트 하지 않음)
+    private void sendError(Long itemId, Principal principal, String errorMessageText) {
+        if (principal == null) {
+            return;
+        }
+
+        BidMessage errorMessage = new BidMessage();
+        errorMessage.setItemId(itemId);
+        errorMessage.setSuccess(false);
+        errorMessage.setErrorMessage(errorMessageText);
+        messagingTemplate.convertAndSendToUser(principal.getName(), "/queue/errors", errorMessage);
+    }
 
-            // null을 반환하여 브로드캐스트 하지 않음
+    /**
+     * 자동 입찰 (최대 입찰가) 등록
+     * 클라이언트가 /app/auction/{itemId}/proxy-bid 로 최대 입찰가를 보내면
+     * 자동 입찰 정산 결과를 /topic/auction/{itemId} 로 한 번만 브로드캐스트
+     * (최대 입찰가는 요청한 사용자에게만 /queue/proxy 로 확인 메시지 전송)
+     */
+    @MessageMapping("/auction/{itemId}/proxy-bid")
+    @SendTo("/topic/auction/{itemId}")
+    public BidMessage handleProxyBid(
+            @DestinationVariable("itemId") Long itemId,
+            @Payload ProxyBidRequest request,
+            Principal principal) {
+
+        // 로그인하지 않은 요청은 오류를 보낼 대상도 없으므로 무시
+        if (principal == null) {
+            return null;
+        }
+
+        if (request == null || request.getMaxAmount() == null) {
+            rejectProxy(itemId, principal, RejectReason.BID_AMOUNT_REQUIRED.outcome());
             return null;
         }
+
+        User user = userRepository.findByUsername(principal.getName()).orElse(null);
+        if (user == null) {
+            rejectProxy(itemId, principal, RejectReason.USER_NOT_FOUND.outcome());
+            return null;
+        }
+
+        AuctionOutcome<List<Bid>> outcome = proxyBidService.registerMaxBid(itemId, user, request.getMaxAmount());
+        if (!(outcome instanceof AuctionOutcome.Accepted<List<Bid>> accepted)) {
+            rejectProxy(itemId, principal, outcome);
+            return null;
+        }
+        List<Bid> bids = accepted.value();
+
+        ProxyBidRequest confirmation = new ProxyBidRequest();
+        confirmation.setMaxAmount(request.getMaxAmount());
+        messagingTemplate.convertAndSendToUser(principal.getName(), "/queue/proxy", confirmation);
+
+        // 이미 선두라서 저장된 입찰이 없으면 브로드캐스트 하지 않음
+        return bids.isEmpty() ? null : toBidMessage(itemId, bids);
+    }
+
+    // 자동 입찰 등록 거절: 최대 입찰가는 비공개이므로 로그에 남기지 않음
+    private void rejectProxy(Long itemId, Principal principal, AuctionOutcome<?> outcome) {
+        AuctionOutcome.Rejected<?> rejected = (AuctionOutcome.Rejected<?>) outcome;
+        log.info("proxy-bid result=rejected item={} user={} reason={}", itemId, principal.getName(), rejected.reason());
+        sendError(itemId, principal, messageOf(rejected));
+    }
+
+    // 이번 처리에서 저장된 입찰 중 마지막(최종 상태)으로 브로드캐스트 메시지 생성
+    private BidMessage toBidMessage(Long itemId, List<Bid> bids) {
+        Bid last = bids.get(bids.size() - 1);
+
+        BidMessage message = new BidMessage();
+        message.setItemId(itemId);
+        message.setBidAmount(last.getBidAmount());
+        message.setBidderUsername(last.getBidder().getUsername());
+        message.setBidderName(last.getBidder().getName());
+        message.setBidTime(last.getBidTime().toString());
+        message.setBidsPlaced(bids.size());
+        message.setEndTime(last.getItem().getEndTime().toString());
+        message.setSuccess(true);
+        return message;
     }
 
     // 요청 DTO
@@ -116,6 +221,19 @@ public class WebSocketAuctionController {
         }
     }
 
+    // 자동 입찰 요청 DTO
+    public static class ProxyBidRequest {
+        private Long maxAmount;
+
+        public Long getMaxAmount() {
+            return maxAmount;
+        }
+
+        public void setMaxAmount(Long maxAmount) {
+            this.maxAmount = maxAmount;
+        }
+    }
+
     // 응답 DTO
     public static class BidMessage {
         private Long itemId;
@@ -123,6 +241,8 @@ public class WebSocketAuctionController {
         private String bidderUsername;
         private String bidderName;
         private String bidTime;
+        private int bidsPlaced; // 이번 처리에서 저장된 입찰 수 (자동 입찰 포함)
+        private String endTime; // 마감 시간 (마감 직전 입찰로 연장되었을 수 있음)
         private boolean success;
         private String errorMessage;
 
@@ -167,6 +287,22 @@ public class WebSocketAuctionController {
             this.bidTime = bidTime;
         }
 
+        public int getBidsPlaced() {
+            return bidsPlaced;
+        }
+
+        public void setBidsPlaced(int bidsPlaced) {
+            this.bidsPlaced = bidsPlaced;
+        }
+
+        public String getEndTime() {
+            return endTime;
+        }
+
+        public void setEndTime(String endTime) {
+            this.endTime = endTime;
+        }
+
         public boolean isSuccess() {
             return success;
         }
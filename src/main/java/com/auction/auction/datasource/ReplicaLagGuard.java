@@ -0,0 +1,70 @@
+package com.auction.auction.datasource;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 자기 쓰기 직후 읽기 보장 (read-your-writes)
+ * 입찰/참여/나가기를 커밋한 사용자는 datasource.replica.sticky-ms 동안 읽기 전용 조회도 주 DB 로 보냄
+ * (복제 지연 때문에 방금 한 입찰이 내 입찰 내역/참여 목록에 안 보이는 일이 없도록)
+ * 읽기 전용 DB 를 설정하지 않았으면 기록만 하고 쓰이지 않음
+ */
+@Component
+public class ReplicaLagGuard {
+
+    // 사용자명 -> 주 DB 고정 만료 시각 (System.nanoTime)
+    private final Map<String, Long> pinnedUntil = new ConcurrentHashMap<>();
+
+    @Value("${datasource.replica.sticky-ms:5000}")
+    private long stickyMillis;
+
+    /**
+     * 현재 트랜잭션이 커밋되면 사용자를 주 DB 에 고정 (트랜잭션 밖이면 바로 고정)
+     */
+    public void pinAfterCommit(String username) {
+        if (username == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            pin(username);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                pin(username);
+            }
+        });
+    }
+
+    public boolean isPinned(String username) {
+        Long until = pinnedUntil.get(username);
+        if (until == null) {
+            return false;
+        }
+        if (System.nanoTime() - until < 0) {
+            return true;
+        }
+        pinnedUntil.remove(username, until);
+        return false;
+    }
+
+    /**
+     * 다시 조회하지 않은 사용자의 만료된 항목 정리
+     */
+    @Scheduled(fixedDelayString = "${datasource.replica.sticky-cleanup-ms:60000}")
+    public void purgeExpired() {
+        long now = System.nanoTime();
+        pinnedUntil.values().removeIf(until -> now - until >= 0);
+    }
+
+    private void pin(String username) {
+        pinnedUntil.put(username, System.nanoTime() + stickyMillis * 1_000_000L);
+    }
+}
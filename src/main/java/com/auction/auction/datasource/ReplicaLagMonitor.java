@@ -0,0 +1,64 @@
+package com.auction.auction.datasource;
+
+import java.util.List;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 읽기 전용 DB 복제 지연 감시
+ * 주기적으로 SHOW REPLICA STATUS 의 Seconds_Behind_Source 를 읽어 허용치(datasource.replica.max-lag-seconds)를 넘거나
+ * 복제가 멈췄거나 연결할 수 없으면 읽기 전용 조회도 주 DB 로 보냄 (ReadReplicaConfig 에서 생성)
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private final JdbcTemplate replica;
+    private final long maxLagSeconds;
+
+    // 첫 확인 전에는 사용하지 않음
+    private volatile boolean usable;
+    private volatile long lagSeconds = -1;
+
+    public ReplicaLagMonitor(DataSource replicaDataSource, long maxLagSeconds) {
+        this.replica = new JdbcTemplate(replicaDataSource);
+        this.replica.setQueryTimeout(1);
+        this.maxLagSeconds = maxLagSeconds;
+    }
+
+    public boolean isUsable() {
+        return usable;
+    }
+
+    public long lagSeconds() {
+        return lagSeconds;
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replica.lag-check-ms:1000}")
+    public void check() {
+        boolean wasUsable = usable;
+        try {
+            List<Map<String, Object>> rows = replica.queryForList("SHOW REPLICA STATUS");
+            Object lag = rows.isEmpty() ? null : rows.get(0).get("Seconds_Behind_Source");
+            // 복제 스레드가 멈추면 NULL
+            lagSeconds = lag instanceof Number number ? number.longValue() : -1;
+            usable = lagSeconds >= 0 && lagSeconds <= maxLagSeconds;
+        } catch (RuntimeException e) {
+            lagSeconds = -1;
+            usable = false;
+            if (wasUsable) {
+                log.warn("읽기 전용 DB 상태 확인 실패, 주 DB 로 전환: {}", e.getMessage());
+            }
+            return;
+        }
+        if (wasUsable != usable) {
+            log.info("읽기 전용 DB {} (복제 지연 {}초, 허용 {}초)",
+                    usable ? "사용" : "사용 중지", lagSeconds, maxLagSeconds);
+        }
+    }
+}
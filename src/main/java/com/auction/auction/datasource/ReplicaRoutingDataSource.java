@@ -0,0 +1,45 @@
+package com.auction.auction.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * 주 DB / 읽기 전용 DB 선택
+ * 읽기 전용 DB 로 보내는 조건 (하나라도 아니면 주 DB)
+ * - 읽기 전용 트랜잭션 (@Transactional(readOnly = true))
+ * - 웹 요청 스레드 (스케줄러, STOMP 입찰 처리, 시작 시 로더는 최신 데이터가 필요하므로 주 DB)
+ * - 복제 지연이 허용치 이내 (ReplicaLagMonitor)
+ * - 요청 사용자가 방금 쓰기를 하지 않음 (ReplicaLagGuard)
+ * 트랜잭션 시작 시점에는 readOnly 여부가 아직 정해지지 않으므로 반드시 LazyConnectionDataSourceProxy 로 감싸서 사용
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Route {
+        PRIMARY, REPLICA
+    }
+
+    private final ReplicaLagMonitor lagMonitor;
+    private final ReplicaLagGuard lagGuard;
+
+    public ReplicaRoutingDataSource(ReplicaLagMonitor lagMonitor, ReplicaLagGuard lagGuard) {
+        this.lagMonitor = lagMonitor;
+        this.lagGuard = lagGuard;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                || RequestContextHolder.getRequestAttributes() == null
+                || !lagMonitor.isUsable()) {
+            return Route.PRIMARY;
+        }
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && lagGuard.isPinned(authentication.getName())) {
+            return Route.PRIMARY;
+        }
+        return Route.REPLICA;
+    }
+}
@@ -14,6 +14,8 @@ public class ItemResponse {
     private Long startPrice;
     private Long currentPrice;
     private String imageUrl;
+    private String thumbnailUrl; // 썸네일 (생성 전이면 원본)
+    private String listImageUrl; // 목록용 이미지 (생성 전이면 원본)
     private String status;
     private LocalDateTime recruitmentEndTime;
     private LocalDateTime auctionStartTime;
@@ -21,4 +23,7 @@ public class ItemResponse {
     private String sellerName;
     private Long winnerId;
     private LocalDateTime createdAt;
+    private Integer bidCount;
+    private Integer participantCount;
+    private String leaderName; // 현재 선두 입찰자 (입찰 전이면 null)
 }
@@ -0,0 +1,9 @@
+package com.auction.auction.dto;
+
+/**
+ * 물건 상세 ETag 재료 (ItemRepository.findVersionById 의 JPQL 생성자 표현식)
+ * 버전은 엔티티가 저장될 때(수정, 상태 전환, 입찰) 증가하고,
+ * 참여/나가기는 참여자 수만 바꾸므로 함께 사용
+ */
+public record ItemVersion(Long version, Integer participantCount) {
+}
@@ -0,0 +1,26 @@
+package com.auction.auction.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class MyAuctionResponse {
+    private Long itemId;
+    private String title;
+    private String summary; // 설명 앞부분 (목록 카드용)
+    private String imageUrl;
+    private String listImageUrl; // 목록용 이미지 (생성 전이면 원본)
+    private String status;
+    private Long startPrice;
+    private Long currentPrice;
+    private Long myHighestBid; // 내 최고 입찰가 (입찰 전이면 null)
+    private boolean leading; // 내가 현재 선두인지
+    private boolean won; // 내가 낙찰받았는지
+    private Integer bidCount;
+    private Integer participantCount;
+    private LocalDateTime deadline; // 모집 중이면 모집 종료, 진행 중이면 경매 종료 시각 (남은 시간은 화면에서 계산), 그 외 null
+    private LocalDateTime joinedAt;
+}
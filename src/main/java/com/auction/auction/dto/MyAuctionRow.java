@@ -0,0 +1,27 @@
+package com.auction.auction.dto;
+
+import java.time.LocalDateTime;
+
+import com.auction.auction.model.Item.ItemStatus;
+
+/**
+ * 내 경매방 목록 조회 결과 한 행 (AuctionParticipantRepository.findMyAuctions 의 JPQL 생성자 표현식)
+ * 엔티티를 읽지 않고 필요한 열과 내 최고 입찰가만 한 번에 조회
+ */
+public record MyAuctionRow(
+        Long itemId,
+        String title,
+        String description,
+        String imageUrl,
+        ItemStatus status,
+        Long startPrice,
+        Long currentPrice,
+        LocalDateTime recruitmentEndTime,
+        LocalDateTime endTime,
+        Long winnerId,
+        Long leaderId,
+        Integer bidCount,
+        Integer participantCount,
+        LocalDateTime joinedAt,
+        Long myHighestBid) {
+}
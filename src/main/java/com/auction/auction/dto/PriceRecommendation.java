@@ -0,0 +1,39 @@
+package com.auction.auction.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 가격 추천 결과 (가격 추천 서버 응답과 같은 snake_case 형식)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class PriceRecommendation {
+
+    @JsonProperty("recommended_price")
+    private long recommendedPrice;
+
+    @JsonProperty("average_price")
+    private long averagePrice;
+
+    @JsonProperty("min_price")
+    private long minPrice;
+
+    @JsonProperty("max_price")
+    private long maxPrice;
+
+    private int count;
+
+    @JsonProperty("condition_discount")
+    private Integer conditionDiscount;
+
+    private String message;
+
+    private String source; // history: 우리 서비스 낙찰 내역, market: 외부 시세 (price-recommender)
+}
@@ -103,10 +103,8 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(IllegalArgumentException.class)
     public ResponseEntity<Map<String, Object>> handleIllegalArgumentException(
             IllegalArgumentException ex) {
-        log.error("==== IllegalArgumentException ====");
-        log.error("오류 메시지: {}", ex.getMessage());
-        log.error("스택 트레이스:", ex);
-        log.error("==================================");
+        // 예상된 업무 검증 실패: 스택 트레이스 없이 한 줄만 기록
+        log.warn("request rejected type=IllegalArgumentException reason=\"{}\"", ex.getMessage());
 
         Map<String, Object> response = new HashMap<>();
         response.put("success", false);
@@ -121,10 +119,8 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(IllegalStateException.class)
     public ResponseEntity<Map<String, Object>> handleIllegalStateException(
             IllegalStateException ex) {
-        log.error("==== IllegalStateException ====");
-        log.error("오류 메시지: {}", ex.getMessage());
-        log.error("스택 트레이스:", ex);
-        log.error("================================");
+        // 예상된 상태 오류: 스택 트레이스 없이 한 줄만 기록
+        log.warn("request rejected type=IllegalStateException reason=\"{}\"", ex.getMessage());
 
         Map<String, Object> response = new HashMap<>();
         response.put("success", false);
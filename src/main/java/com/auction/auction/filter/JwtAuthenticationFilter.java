@@ -10,6 +10,7 @@ import org.springframework.security.web.authentication.WebAuthenticationDetailsS
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+import com.auction.auction.metrics.AuctionMetrics;
 import com.auction.auction.util.JwtUtil;
 
 import jakarta.servlet.FilterChain;
@@ -24,6 +25,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
     private final UserDetailsService userDetailsService;
+    private final AuctionMetrics metrics;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
@@ -37,7 +39,15 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             return;
         }
 
-        String jwt = authHeader.substring(7); // "Bearer " 제거
+        // 토큰 처리 시간만 측정 (이후 필터 체인 실행 시간 제외)
+        long start = System.nanoTime();
+        authenticate(request, authHeader.substring(7)); // "Bearer " 제거
+        metrics.recordSince(metrics.jwtFilter(), start);
+
+        filterChain.doFilter(request, response);
+    }
+
+    private void authenticate(HttpServletRequest request, String jwt) {
         String username = jwtUtil.getUsernameFromToken(jwt);
 
         // 토큰에서 사용자 이름을 추출했고, 아직 인증되지 않은 경우
@@ -54,7 +64,5 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 SecurityContextHolder.getContext().setAuthentication(authToken);
             }
         }
-
-        filterChain.doFilter(request, response);
     }
 }
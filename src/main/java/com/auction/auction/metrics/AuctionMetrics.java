@@ -0,0 +1,115 @@
+package com.auction.auction.metrics;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 경매 핫패스 지연 시간 측정
+ * - auction.bid.stage{stage=...}: 입찰 처리 단계별 시간 (decode, user, validation, hold, insert, summary, commit, broadcast)
+ *   현재가 UPDATE 는 커밋 시 flush 되므로 commit 단계에 포함
+ * - auction.bid{result=...}: 입찰 처리 전체 시간
+ * - auction.join, auction.scheduler.run{job=...}, auction.jwt.filter
+ * 모든 타이머는 백분위 히스토그램을 함께 내보냄 (/actuator/prometheus)
+ */
+@Component
+@RequiredArgsConstructor
+public class AuctionMetrics {
+
+    public static final String STAGE_DECODE = "decode";
+    public static final String STAGE_USER = "user";
+    public static final String STAGE_VALIDATION = "validation";
+    public static final String STAGE_HOLD = "hold";
+    public static final String STAGE_INSERT = "insert";
+    public static final String STAGE_SUMMARY = "summary";
+    public static final String STAGE_COMMIT = "commit";
+    public static final String STAGE_BROADCAST = "broadcast";
+
+    private final MeterRegistry registry;
+
+    // 태그 조합별 타이머 캐시 (입찰마다 Timer.builder 를 만들지 않도록)
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+    // 커밋 타이머를 이미 등록한 트랜잭션 표시용 리소스 키
+    private final Object commitTimerKey = new Object();
+
+    /**
+     * 입찰 처리 단계별 타이머
+     */
+    public Timer bidStage(String stage) {
+        return timer("auction.bid.stage", "stage", stage);
+    }
+
+    /**
+     * 입찰 처리 전체 타이머 (result = accepted / rejected / error)
+     */
+    public Timer bid(String result) {
+        return timer("auction.bid", "result", result);
+    }
+
+    public Timer join() {
+        return timer("auction.join", "component", "service");
+    }
+
+    public Timer schedulerRun(String job) {
+        return timer("auction.scheduler.run", "job", job);
+    }
+
+    public Timer jwtFilter() {
+        return timer("auction.jwt.filter", "component", "filter");
+    }
+
+    public Timer.Sample start() {
+        return Timer.start(registry);
+    }
+
+    public void recordSince(Timer timer, long startNanos) {
+        timer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 현재 트랜잭션의 커밋 시간(flush 포함)을 commit 단계로 기록
+     * 자동 입찰 연쇄처럼 한 트랜잭션에서 여러 번 호출해도 트랜잭션당 한 번만 기록
+     */
+    public void recordCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.hasResource(commitTimerKey)) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(commitTimerKey, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            private long startNanos;
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                startNanos = System.nanoTime();
+            }
+
+            @Override
+            public void afterCommit() {
+                recordSince(bidStage(STAGE_COMMIT), startNanos);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(commitTimerKey);
+            }
+        });
+    }
+
+    private Timer timer(String name, String tagKey, String tagValue) {
+        return timers.computeIfAbsent(name + ":" + tagValue, key -> Timer.builder(name)
+                .tag(tagKey, tagValue)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .publishPercentileHistogram()
+                .register(registry));
+    }
+}
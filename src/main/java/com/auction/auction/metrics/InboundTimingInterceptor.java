@@ -0,0 +1,36 @@
+package com.auction.auction.metrics;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+import org.springframework.stereotype.Component;
+
+/**
+ * STOMP 인바운드 메시지 처리 시작 시각 기록
+ * 핸들러 진입 시점과의 차이 = 목적지 매핑 + 페이로드 디코딩 (decode 단계)
+ */
+@Component
+public class InboundTimingInterceptor implements ExecutorChannelInterceptor {
+
+    private static final ThreadLocal<Long> HANDLE_START = new ThreadLocal<>();
+
+    /**
+     * 현재 스레드에서 처리 중인 메시지의 처리 시작 시각 (nanoTime, 없으면 0)
+     */
+    public static long handleStartNanos() {
+        Long start = HANDLE_START.get();
+        return start != null ? start : 0L;
+    }
+
+    @Override
+    public Message<?> beforeHandle(Message<?> message, MessageChannel channel, MessageHandler handler) {
+        HANDLE_START.set(System.nanoTime());
+        return message;
+    }
+
+    @Override
+    public void afterMessageHandled(Message<?> message, MessageChannel channel, MessageHandler handler, Exception ex) {
+        HANDLE_START.remove();
+    }
+}
@@ -0,0 +1,53 @@
+package com.auction.auction.model;
+
+import java.time.LocalDateTime;
+
+import org.hibernate.annotations.Immutable;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 보관된 입찰 (bids_archive, BidArchiveService 가 JDBC 로 옮기며 읽기 전용)
+@Entity
+@Immutable
+@Table(name = "bids_archive")
+@Getter
+@NoArgsConstructor
+public class ArchivedBid {
+
+    @Id
+    private Long id;
+
+    @ManyToOne
+    @JoinColumn(name = "item_id", nullable = false)
+    private Item item;
+
+    @ManyToOne
+    @JoinColumn(name = "bidder_id", nullable = false)
+    private User bidder;
+
+    @Column(name = "bid_amount", nullable = false)
+    private Long bidAmount;
+
+    @Column(name = "bid_time", nullable = false)
+    private LocalDateTime bidTime;
+
+    /**
+     * 입찰 내역 응답용 Bid (영속 상태 아님)
+     */
+    public Bid toBid() {
+        Bid bid = new Bid();
+        bid.setId(id);
+        bid.setItem(item);
+        bid.setBidder(bidder);
+        bid.setBidAmount(bidAmount);
+        bid.setBidTime(bidTime);
+        return bid;
+    }
+}
@@ -2,6 +2,10 @@ package com.auction.auction.model;
 
 import java.time.LocalDateTime;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
@@ -16,7 +20,10 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+// 2차 캐시: 참여 목록 쿼리 캐시는 ID 만 저장하므로 엔티티도 캐시해야 건별 조회가 생기지 않음 (ehcache.xml)
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "auction_participants",
        uniqueConstraints = @UniqueConstraint(columnNames = {"item_id", "user_id"}))
 @Getter
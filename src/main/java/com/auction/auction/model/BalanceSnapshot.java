@@ -0,0 +1,49 @@
+package com.auction.auction.model;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 사용자 잔액 스냅샷
+ * 현재 잔액 = 최신 스냅샷 잔액 + 스냅샷 이후(lastEntryId 초과) 원장 항목 합계
+ */
+@Entity
+@Table(name = "balance_snapshots",
+       indexes = @Index(name = "idx_snapshot_user_id", columnList = "user_id, id"))
+@Getter
+@Setter
+@NoArgsConstructor
+public class BalanceSnapshot {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false, updatable = false)
+    private Long userId;
+
+    @Column(nullable = false, updatable = false)
+    private Long balance;
+
+    @Column(name = "last_entry_id", nullable = false, updatable = false)
+    private Long lastEntryId; // 이 스냅샷에 반영된 마지막 원장 항목 ID
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        this.createdAt = LocalDateTime.now();
+    }
+}
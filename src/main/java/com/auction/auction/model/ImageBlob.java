@@ -0,0 +1,55 @@
+package com.auction.auction.model;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 내용 주소 기반 이미지 파일 (같은 내용은 한 번만 저장)
+ * 참조 수는 이 이미지를 imageUrl 로 사용하는 물건 수
+ */
+@Entity
+@Table(name = "image_blobs")
+@Getter
+@Setter
+@NoArgsConstructor
+public class ImageBlob {
+
+    @Id
+    @Column(length = 64)
+    private String hash; // SHA-256 (16진수)
+
+    @Column(nullable = false, length = 100)
+    private String path; // 업로드 디렉토리 기준 상대 경로 (예: ab/cd/{hash}.jpg)
+
+    @Column(nullable = false)
+    private Long size;
+
+    @Column(name = "ref_count", nullable = false)
+    private Integer refCount = 0;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        this.createdAt = LocalDateTime.now();
+        this.updatedAt = this.createdAt;
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        this.updatedAt = LocalDateTime.now();
+    }
+}
@@ -2,6 +2,10 @@ package com.auction.auction.model;
 
 import java.time.LocalDateTime;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
@@ -13,11 +17,15 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+// 2차 캐시: 진행 중인 물건은 입찰마다 갱신되어 항목이 무효화되므로 주로 종료/판매 완료 물건이 캐시에 남음 (ehcache.xml)
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "items")
 @Getter
 @Setter
@@ -63,6 +71,26 @@ public class Item {
     @Column(name = "winner_id")
     private Long winnerId; // 낙찰자 ID (경매 종료 시 설정)
 
+    // 요약 정보 (목록에서 건별 COUNT 없이 표시)
+    // AuctionSummaryService 가 입찰/참여/나가기 트랜잭션 안에서 원자적 UPDATE 로만 변경하므로 엔티티 저장 시에는 쓰지 않음
+    @Column(name = "bid_count", nullable = false, insertable = false, updatable = false)
+    private Integer bidCount = 0;
+
+    @Column(name = "participant_count", nullable = false, insertable = false, updatable = false)
+    private Integer participantCount = 0;
+
+    @Column(name = "leader_id", insertable = false, updatable = false)
+    private Long leaderId; // 현재 선두 입찰자 ID
+
+    @Column(name = "leader_name", length = 50, insertable = false, updatable = false)
+    private String leaderName; // 현재 선두 입찰자 아이디
+
+    // 낙관적 잠금 버전 (엔티티 저장마다 증가, 상세 조회 ETag 에도 사용)
+    // 같은 물건의 입찰은 물건 행 잠금(ItemRepository.findByIdForUpdate)으로 직렬화되므로 주로 입찰과 상태 전환이 겹칠 때 충돌
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
@@ -0,0 +1,68 @@
+package com.auction.auction.model;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 잔액 변경 원장 (추가 전용)
+ * 하나의 거래(postingId)는 합계가 0이 되는 두 개 이상의 항목으로 기록 (복식부기)
+ */
+@Entity
+@Table(name = "ledger_entries",
+       indexes = @Index(name = "idx_ledger_user_id", columnList = "user_id, id"))
+@Getter
+@Setter
+@NoArgsConstructor
+public class LedgerEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "posting_id", nullable = false, length = 36, updatable = false)
+    private String postingId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 30, updatable = false)
+    private LedgerAccount account;
+
+    @Column(name = "user_id", updatable = false)
+    private Long userId; // USER_WALLET 계정일 때만 설정
+
+    @Column(name = "item_id", updatable = false)
+    private Long itemId; // 낙찰 정산일 때만 설정
+
+    @Column(nullable = false, updatable = false)
+    private Long amount; // 증가(+) / 감소(-)
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entry_type", nullable = false, length = 20, updatable = false)
+    private EntryType entryType;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    public enum LedgerAccount {
+        USER_WALLET,        // 사용자 계좌
+        EXTERNAL_FUNDING,   // 외부 입출금 (충전/인출 상대 계정)
+        AUCTION_CLEARING    // 낙찰 대금 정산 (낙찰 차감 상대 계정)
+    }
+
+    public enum EntryType {
+        DEPOSIT,        // 충전
+        WITHDRAWAL,     // 인출
+        SETTLEMENT      // 낙찰 대금 차감
+    }
+}
@@ -2,6 +2,10 @@ package com.auction.auction.model;
 
 import java.time.LocalDateTime;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
@@ -13,7 +17,10 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+// 2차 캐시: 판매자 정보 등 거의 바뀌지 않는 참조 데이터 (ehcache.xml)
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "users")
 @Getter
 @Setter
@@ -37,7 +44,7 @@ public class User {
     private String name;
 
     @Column(nullable = false)
-    private Long balance = 0L; // 계좌 잔액 (기본값 0원)
+    private Long balance = 0L; // 원장 도입 이전의 기초 잔액 (현재 잔액은 LedgerService.balanceOf 로 조회)
 
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
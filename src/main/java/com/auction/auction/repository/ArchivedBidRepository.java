@@ -0,0 +1,21 @@
+package com.auction.auction.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.auction.auction.model.ArchivedBid;
+
+@Repository
+public interface ArchivedBidRepository extends JpaRepository<ArchivedBid, Long> {
+
+    // 특정 경매의 보관된 입찰 내역 (최신순)
+    List<ArchivedBid> findByItemIdOrderByBidTimeDesc(Long itemId);
+
+    // 특정 경매의 보관된 입찰 수
+    long countByItemId(Long itemId);
+
+    // 특정 사용자의 보관된 입찰 내역 (최신순)
+    List<ArchivedBid> findByBidderIdOrderByBidTimeDesc(Long bidderId);
+}
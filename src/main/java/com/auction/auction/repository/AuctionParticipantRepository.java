@@ -3,11 +3,18 @@ package com.auction.auction.repository;
 import java.util.List;
 import java.util.Optional;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.auction.auction.dto.MyAuctionRow;
 import com.auction.auction.model.AuctionParticipant;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
 public interface AuctionParticipantRepository extends JpaRepository<AuctionParticipant, Long> {
 
@@ -15,8 +22,22 @@ public interface AuctionParticipantRepository extends JpaRepository<AuctionParti
     List<AuctionParticipant> findByItemId(Long itemId);
 
     // 특정 사용자가 참여한 모든 경매 조회 (최신순 - 최근 참여한 것이 위로)
+    // 쿼리 캐시: auction_participants 테이블이 변경되면 무효화
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "query.participationsByUser")
+    })
     List<AuctionParticipant> findByUserIdOrderByJoinedAtDesc(Long userId);
 
+    // 내 경매방 목록 (최신 참여순): 물건 요약 + 내 최고 입찰가(보관된 입찰 포함)를 한 번의 쿼리로 조회
+    @Query("SELECT new com.auction.auction.dto.MyAuctionRow(" +
+           "i.id, i.title, i.description, i.imageUrl, i.status, i.startPrice, i.currentPrice, " +
+           "i.recruitmentEndTime, i.endTime, i.winnerId, i.leaderId, i.bidCount, i.participantCount, p.joinedAt, " +
+           "COALESCE((SELECT MAX(b.bidAmount) FROM Bid b WHERE b.item.id = i.id AND b.bidder.id = :userId), " +
+           "(SELECT MAX(a.bidAmount) FROM ArchivedBid a WHERE a.item.id = i.id AND a.bidder.id = :userId))) " +
+           "FROM AuctionParticipant p JOIN p.item i WHERE p.user.id = :userId ORDER BY p.joinedAt DESC")
+    List<MyAuctionRow> findMyAuctions(@Param("userId") Long userId);
+
     // 특정 사용자가 특정 경매에 참여했는지 확인
     Optional<AuctionParticipant> findByItemIdAndUserId(Long itemId, Long userId);
 
@@ -0,0 +1,16 @@
+package com.auction.auction.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.auction.auction.model.BalanceHold;
+import com.auction.auction.model.BalanceHold.HoldStatus;
+
+@Repository
+public interface BalanceHoldRepository extends JpaRepository<BalanceHold, Long> {
+
+    // 상태별 조회 (시작 시 ACTIVE 홀드 복원)
+    List<BalanceHold> findByStatus(HoldStatus status);
+}
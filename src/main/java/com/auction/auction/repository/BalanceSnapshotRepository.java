@@ -0,0 +1,20 @@
+package com.auction.auction.repository;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import com.auction.auction.model.BalanceSnapshot;
+
+@Repository
+public interface BalanceSnapshotRepository extends JpaRepository<BalanceSnapshot, Long> {
+
+    // 사용자의 최신 스냅샷
+    Optional<BalanceSnapshot> findTopByUserIdOrderByIdDesc(Long userId);
+
+    // 스냅샷 작업이 마지막으로 반영한 원장 항목 ID
+    @Query("SELECT COALESCE(MAX(s.lastEntryId), 0) FROM BalanceSnapshot s")
+    long findHighWaterMark();
+}
@@ -22,6 +22,10 @@ public interface BidRepository extends JpaRepository<Bid, Long> {
     // 특정 경매의 입찰 개수
     long countByItemId(Long itemId);
 
+    // 특정 경매의 마지막 입찰 번호 (입찰 내역 ETag)
+    @Query("SELECT MAX(b.id) FROM Bid b WHERE b.item.id = :itemId")
+    Long findLastBidId(Long itemId);
+
     // 특정 사용자의 입찰 내역
     List<Bid> findByBidderIdOrderByBidTimeDesc(Long bidderId);
 
@@ -0,0 +1,39 @@
+package com.auction.auction.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.auction.auction.model.ImageBlob;
+
+@Repository
+public interface ImageBlobRepository extends JpaRepository<ImageBlob, String> {
+
+    // 참조 수 증감 (DB에서 원자적으로 처리)
+    @Transactional
+    @Modifying
+    @Query("UPDATE ImageBlob b SET b.refCount = b.refCount + :delta, b.updatedAt = :now WHERE b.hash = :hash")
+    int addReference(@Param("hash") String hash, @Param("delta") int delta, @Param("now") LocalDateTime now);
+
+    // 다시 업로드된 이미지는 정리 대상에서 유예
+    @Transactional
+    @Modifying
+    @Query("UPDATE ImageBlob b SET b.updatedAt = :now WHERE b.hash = :hash")
+    int touch(@Param("hash") String hash, @Param("now") LocalDateTime now);
+
+    // 참조가 없고 유예 시간이 지난 이미지 (정리 대상)
+    @Query("SELECT b FROM ImageBlob b WHERE b.refCount <= 0 AND b.updatedAt < :before")
+    List<ImageBlob> findUnreferenced(@Param("before") LocalDateTime before);
+
+    // 정리 직전 상태가 바뀌지 않았을 때만 삭제
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM ImageBlob b WHERE b.hash = :hash AND b.refCount <= 0 AND b.updatedAt < :before")
+    int deleteIfUnreferenced(@Param("hash") String hash, @Param("before") LocalDateTime before);
+}
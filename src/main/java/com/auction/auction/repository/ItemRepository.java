@@ -1,20 +1,35 @@
 package com.auction.auction.repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.auction.auction.dto.ItemVersion;
 import com.auction.auction.model.Item;
 import com.auction.auction.model.Item.ItemStatus;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+
 @Repository
 public interface ItemRepository extends JpaRepository<Item, Long> {
 
     // 상태별 조회
     List<Item> findByStatus(ItemStatus status);
 
-    // 판매자별 조회
+    // 판매자별 조회 (쿼리 캐시: items 테이블이 변경되면 무효화)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "query.itemsBySeller")
+    })
     List<Item> findBySellerId(Long sellerId);
 
     // 최신순 조회 (DELETED 제외)
@@ -22,4 +37,16 @@ public interface ItemRepository extends JpaRepository<Item, Long> {
 
     // 진행 중인 경매 최신순 조회
     List<Item> findByStatusOrderByCreatedAtDesc(ItemStatus status);
+
+    // 낙찰된 경매 조회 (가격 추정 인덱스 구축)
+    List<Item> findByStatusInAndWinnerIdIsNotNull(Collection<ItemStatus> statuses);
+
+    // 입찰 직렬화용 행 잠금 (커밋할 때까지 같은 물건의 다른 입찰, 자동 입찰 등록이 대기)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT i FROM Item i WHERE i.id = :id")
+    Optional<Item> findByIdForUpdate(@Param("id") Long id);
+
+    // 상세 조회 ETag 용 버전 (기본 키로 두 열만 읽고 엔티티는 읽지 않음)
+    @Query("SELECT new com.auction.auction.dto.ItemVersion(i.version, i.participantCount) FROM Item i WHERE i.id = :id")
+    Optional<ItemVersion> findVersionById(@Param("id") Long id);
 }
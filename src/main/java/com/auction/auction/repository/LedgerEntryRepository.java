@@ -0,0 +1,34 @@
+package com.auction.auction.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import com.auction.auction.model.LedgerEntry;
+
+@Repository
+public interface LedgerEntryRepository extends JpaRepository<LedgerEntry, Long> {
+
+    // 특정 사용자 계좌의 afterId 이후 항목 합계 (스냅샷 이후 tail)
+    @Query("SELECT COALESCE(SUM(e.amount), 0) FROM LedgerEntry e " +
+           "WHERE e.userId = :userId AND e.account = com.auction.auction.model.LedgerEntry.LedgerAccount.USER_WALLET " +
+           "AND e.id > :afterId")
+    long sumWalletAfter(Long userId, Long afterId);
+
+    // (afterId, upToId] 구간의 사용자별 계좌 변동 합계 [userId, 합계]
+    @Query("SELECT e.userId, SUM(e.amount) FROM LedgerEntry e " +
+           "WHERE e.account = com.auction.auction.model.LedgerEntry.LedgerAccount.USER_WALLET " +
+           "AND e.id > :afterId AND e.id <= :upToId GROUP BY e.userId")
+    List<Object[]> sumWalletByUserBetween(Long afterId, Long upToId);
+
+    // createdAt 이전에 기록된 마지막 원장 항목 (최신 항목부터 거꾸로 찾으므로 최근 구간만 읽음)
+    Optional<LedgerEntry> findTopByCreatedAtLessThanEqualOrderByIdDesc(LocalDateTime createdAt);
+
+    // 거래별 합계가 0이 아닌 거래 ID (정합성 점검)
+    @Query("SELECT e.postingId FROM LedgerEntry e GROUP BY e.postingId HAVING SUM(e.amount) <> 0")
+    List<String> findUnbalancedPostings();
+}
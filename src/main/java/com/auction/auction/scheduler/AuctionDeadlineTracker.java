@@ -0,0 +1,157 @@
+package com.auction.auction.scheduler;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.PriorityBlockingQueue;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 진행 중인 경매의 마감 시간 관리 (소프트 클로즈)
+ * - 마감 직전 N초 안에 들어온 입찰은 마감 시간을 연장
+ * - 연장은 메모리에서 원자적으로 처리하고, 대기열 재배치는 꺼낼 때 지연 처리 (연장 비용 O(1))
+ * - 입찰 수락과 마감 처리는 같은 키에 대한 compute 로 직렬화되어 마감 후 입찰이 끼어들 수 없음
+ * - 연장과 마감은 호출한 트랜잭션이 롤백되면 되돌림 (실패한 입찰이 마감을 연장하거나, 실패한 마감이 추적을 끝내지 않도록)
+ */
+@Component
+public class AuctionDeadlineTracker {
+
+    // itemId -> 현재 유효한 마감 시간
+    private final Map<Long, LocalDateTime> deadlines = new ConcurrentHashMap<>();
+
+    // 마감 예정 대기열 (연장된 항목은 꺼낼 때 새 마감 시간으로 다시 넣음)
+    private final PriorityBlockingQueue<DueEntry> queue =
+            new PriorityBlockingQueue<>(64, Comparator.comparing(DueEntry::at));
+
+    @Value("${auction.soft-close.window-seconds:30}")
+    private long windowSeconds;
+
+    @Value("${auction.soft-close.extension-seconds:30}")
+    private long extensionSeconds;
+
+    /**
+     * 경매 마감 시간 등록 (이미 등록되어 있으면 무시)
+     */
+    public void track(Long itemId, LocalDateTime endTime) {
+        if (endTime != null && deadlines.putIfAbsent(itemId, endTime) == null) {
+            queue.offer(new DueEntry(itemId, endTime));
+        }
+    }
+
+    /**
+     * 현재 유효한 마감 시간 (등록되지 않았으면 DB 값 사용)
+     */
+    public LocalDateTime deadlineOf(Long itemId, LocalDateTime persistedEndTime) {
+        return deadlines.getOrDefault(itemId, persistedEndTime);
+    }
+
+    /**
+     * 입찰 수락 처리
+     * 마감 전이면 (필요 시 연장된) 마감 시간을 반환하고, 이미 마감되었으면 null 반환
+     */
+    public LocalDateTime acceptBid(Long itemId, LocalDateTime persistedEndTime, LocalDateTime now) {
+        boolean[] added = new boolean[1];
+        LocalDateTime[] previous = new LocalDateTime[1];
+        LocalDateTime accepted = deadlines.compute(itemId, (id, current) -> {
+            previous[0] = current;
+            LocalDateTime deadline = current != null ? current : persistedEndTime;
+            if (deadline == null || now.isAfter(deadline)) {
+                return current;
+            }
+
+            added[0] = current == null;
+            LocalDateTime extended = now.plusSeconds(extensionSeconds);
+            if (windowSeconds > 0 && !now.isBefore(deadline.minusSeconds(windowSeconds)) && extended.isAfter(deadline)) {
+                return extended;
+            }
+            return deadline;
+        });
+
+        if (accepted == null || now.isAfter(accepted)) {
+            return null;
+        }
+        if (added[0]) {
+            queue.offer(new DueEntry(itemId, accepted));
+        }
+        if (!accepted.equals(previous[0])) {
+            // 그 사이 다른 입찰이 더 연장했으면 그대로 둠 (이전 값이 없었으면 추적 해제, 대기열 항목은 꺼낼 때 무시됨)
+            onRollback(() -> deadlines.computeIfPresent(itemId,
+                    (id, current) -> current.equals(accepted) ? previous[0] : current));
+        }
+        return accepted;
+    }
+
+    /**
+     * 마감 시간이 지난 경매 ID 목록
+     * 연장된 항목은 새 마감 시간으로 대기열에 다시 넣음
+     */
+    public List<Long> pollDue(LocalDateTime now) {
+        List<Long> due = new ArrayList<>();
+        DueEntry head;
+        while ((head = queue.peek()) != null && head.at().isBefore(now)) {
+            queue.poll();
+            LocalDateTime current = deadlines.get(head.itemId());
+            if (current == null) {
+                continue; // 이미 마감 처리됨
+            }
+            if (now.isAfter(current)) {
+                due.add(head.itemId());
+            } else {
+                queue.offer(new DueEntry(head.itemId(), current));
+            }
+        }
+        return due;
+    }
+
+    /**
+     * 마감 확정
+     * 마감 시간이 지났으면 추적을 끝내고 true 반환 (이후 입찰은 DB의 지난 마감 시간 기준으로 거절됨)
+     * 그 사이 연장되었으면 새 마감 시간으로 대기열에 다시 넣고 false 반환
+     */
+    public boolean tryClose(Long itemId, LocalDateTime persistedEndTime, LocalDateTime now) {
+        LocalDateTime[] closed = new LocalDateTime[1];
+        LocalDateTime remaining = deadlines.compute(itemId, (id, current) -> {
+            LocalDateTime deadline = current != null ? current : persistedEndTime;
+            if (deadline != null && now.isAfter(deadline)) {
+                closed[0] = deadline;
+                return null;
+            }
+            return current;
+        });
+        if (remaining != null) {
+            queue.offer(new DueEntry(itemId, remaining));
+        }
+        if (closed[0] == null) {
+            return false;
+        }
+        // 마감 처리가 롤백되면 다시 추적해 다음 주기에 재시도
+        LocalDateTime deadline = closed[0];
+        onRollback(() -> track(itemId, deadline));
+        return true;
+    }
+
+    // 현재 트랜잭션이 커밋되지 않으면 메모리 변경을 되돌림 (트랜잭션 밖이면 되돌릴 일이 없음)
+    private static void onRollback(Runnable undo) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    undo.run();
+                }
+            }
+        });
+    }
+
+    private record DueEntry(Long itemId, LocalDateTime at) {
+    }
+}
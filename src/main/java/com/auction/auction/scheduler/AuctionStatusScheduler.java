@@ -8,14 +8,21 @@ import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.auction.auction.metrics.AuctionMetrics;
 import com.auction.auction.model.Bid;
 import com.auction.auction.model.Item;
 import com.auction.auction.model.Item.ItemStatus;
 import com.auction.auction.model.User;
 import com.auction.auction.repository.BidRepository;
 import com.auction.auction.repository.ItemRepository;
-import com.auction.auction.repository.UserRepository;
+import com.auction.auction.search.ItemSearchIndex;
+import com.auction.auction.service.BalanceHoldService;
+import com.auction.auction.service.ItemChangeSequence;
+import com.auction.auction.service.LedgerService;
+import com.auction.auction.service.PriceEstimationService;
+import com.auction.auction.service.ProxyBidService;
 
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -26,17 +33,33 @@ public class AuctionStatusScheduler {
 
     private final ItemRepository itemRepository;
     private final BidRepository bidRepository;
-    private final UserRepository userRepository;
+    private final ProxyBidService proxyBidService;
+
+    private final AuctionDeadlineTracker deadlineTracker;
+    private final BalanceHoldService holdService;
+    private final LedgerService ledgerService;
+    private final PriceEstimationService priceEstimationService;
+    private final ItemSearchIndex searchIndex;
+    private final ItemChangeSequence changeSequence;
+    private final AuctionMetrics metrics;
 
     /**
      * 매 10초마다 경매 상태 자동 업데이트
      * - RECRUITING -> AUCTION_STARTED (모집 종료 시간 지남)
-     * - AUCTION_STARTED -> AUCTION_ENDED (경매 종료 시간 지남)
+     * - AUCTION_STARTED -> AUCTION_ENDED (경매 종료 시간 지남, 마감 대기열을 놓친 경우의 안전망)
      */
     @Scheduled(fixedRate = 10000) // 10초마다 실행 (10000ms)
     @Transactional
     public void updateAuctionStatus() {
-        LocalDateTime now = LocalDateTime.now();
+        Timer.Sample sample = metrics.start();
+        try {
+            transitionStatuses(LocalDateTime.now());
+        } finally {
+            sample.stop(metrics.schedulerRun("status"));
+        }
+    }
+
+    private void transitionStatuses(LocalDateTime now) {
 
         // RECRUITING -> AUCTION_STARTED
         List<Item> recruitingItems = itemRepository.findByStatus(ItemStatus.RECRUITING);
@@ -44,6 +67,9 @@ public class AuctionStatusScheduler {
             if (item.getRecruitmentEndTime() != null && now.isAfter(item.getRecruitmentEndTime())) {
                 item.setStatus(ItemStatus.AUCTION_STARTED);
                 itemRepository.save(item);
+                searchIndex.updateState(item.getId(), item.getStatus(), item.getCurrentPrice());
+                changeSequence.bumpAfterCommit();
+                deadlineTracker.track(item.getId(), item.getEndTime());
                 log.info("경매 시작: 물건 ID = {}, 제목 = {}", item.getId(), item.getTitle());
             }
         }
@@ -51,35 +77,75 @@ public class AuctionStatusScheduler {
         // AUCTION_STARTED -> AUCTION_ENDED (낙찰 처리 포함)
         List<Item> activeItems = itemRepository.findByStatus(ItemStatus.AUCTION_STARTED);
         for (Item item : activeItems) {
-            if (now.isAfter(item.getEndTime())) {
-                item.setStatus(ItemStatus.AUCTION_ENDED);
-
-                // 낙찰자 결정 및 금액 차감
-                List<Bid> bids = bidRepository.findByItemIdOrderByBidTimeDesc(item.getId());
-                if (!bids.isEmpty()) {
-                    // 가장 최근(마지막) 입찰자가 낙찰자
-                    Bid winningBid = bids.get(0);
-                    User winner = winningBid.getBidder();
-
-                    // 낙찰자 설정
-                    item.setWinnerId(winner.getId());
-
-                    // 낙찰자 계좌에서 금액 차감
-                    Long finalPrice = item.getCurrentPrice();
-                    if (winner.getBalance() >= finalPrice) {
-                        winner.setBalance(winner.getBalance() - finalPrice);
-                        userRepository.save(winner);
-                        log.info("낙찰 완료: 물건 ID = {}, 제목 = {}, 낙찰자 = {}, 낙찰가 = {}원",
-                                item.getId(), item.getTitle(), winner.getUsername(), finalPrice);
-                    } else {
-                        log.warn("낙찰자 잔액 부족: 물건 ID = {}, 낙찰자 = {}, 필요 금액 = {}원, 현재 잔액 = {}원",
-                                item.getId(), winner.getUsername(), finalPrice, winner.getBalance());
-                    }
-                }
+            // 재시작 후에도 마감 대기열에 등록되도록 함
+            deadlineTracker.track(item.getId(), item.getEndTime());
+            if (now.isAfter(deadlineTracker.deadlineOf(item.getId(), item.getEndTime()))) {
+                closeAuction(item, now);
+            }
+        }
+    }
 
-                itemRepository.save(item);
-                log.info("경매 종료: 물건 ID = {}, 제목 = {}", item.getId(), item.getTitle());
+    /**
+     * 매 초마다 마감 대기열 확인
+     * 마감 시간이 지난 경매만 DB에서 읽어 종료 처리 (대기열이 비어 있으면 DB 접근 없음)
+     */
+    @Scheduled(fixedRateString = "${auction.soft-close.tick-ms:1000}")
+    @Transactional
+    public void closeDueAuctions() {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> due = deadlineTracker.pollDue(now);
+        if (due.isEmpty()) {
+            return;
+        }
+
+        Timer.Sample sample = metrics.start();
+        for (Long itemId : due) {
+            itemRepository.findById(itemId)
+                    .filter(item -> item.getStatus() == ItemStatus.AUCTION_STARTED)
+                    .ifPresent(item -> closeAuction(item, now));
+        }
+        sample.stop(metrics.schedulerRun("close_due"));
+    }
+
+    // 경매 종료 및 낙찰 처리
+    private void closeAuction(Item item, LocalDateTime now) {
+        // 그 사이 마감 직전 입찰로 연장되었으면 종료하지 않음
+        if (!deadlineTracker.tryClose(item.getId(), item.getEndTime(), now)) {
+            return;
+        }
+
+        item.setStatus(ItemStatus.AUCTION_ENDED);
+        proxyBidService.clear(item.getId());
+
+        // 낙찰자 결정 및 금액 차감
+        // 최고가 입찰자가 낙찰자 (자동 입찰 정산은 한 트랜잭션에 여러 입찰을 같은 시각으로 저장할 수 있으므로 시각 순이 아닌 금액 순)
+        Optional<Bid> winningBid = bidRepository.findTopBidByItemId(item.getId());
+        if (winningBid.isPresent()) {
+            User winner = winningBid.get().getBidder();
+
+            // 낙찰자 설정
+            item.setWinnerId(winner.getId());
+
+            // 낙찰자 홀드 정산 (입찰 시 이미 묶어둔 금액이므로 잔액 부족이 발생하지 않음)
+            holdService.settle(item.getId(), winner.getId());
+
+            // 낙찰자 계좌에서 금액 차감 (원장에 정산 항목 기록)
+            Long finalPrice = item.getCurrentPrice();
+            long balance = ledgerService.balanceOf(winner.getId());
+            if (balance >= finalPrice) {
+                ledgerService.postSettlement(winner.getId(), item.getId(), finalPrice);
+                log.info("낙찰 완료: 물건 ID = {}, 제목 = {}, 낙찰자 = {}, 낙찰가 = {}원",
+                        item.getId(), item.getTitle(), winner.getUsername(), finalPrice);
+            } else {
+                log.warn("낙찰자 잔액 부족: 물건 ID = {}, 낙찰자 = {}, 필요 금액 = {}원, 현재 잔액 = {}원",
+                        item.getId(), winner.getUsername(), finalPrice, balance);
             }
         }
+
+        itemRepository.save(item);
+        searchIndex.updateState(item.getId(), item.getStatus(), item.getCurrentPrice());
+        changeSequence.bumpAfterCommit();
+        priceEstimationService.onAuctionClosed(item);
+        log.info("경매 종료: 물건 ID = {}, 제목 = {}", item.getId(), item.getTitle());
     }
 }
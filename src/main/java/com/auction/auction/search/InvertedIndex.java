@@ -0,0 +1,115 @@
+package com.auction.auction.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongPredicate;
+
+/**
+ * 메모리 역색인 (토큰 -> 문서 ID -> 가중치)
+ * - 쓰기는 문서 단위로 직렬화하고, 읽기는 잠금 없이 동시에 수행
+ * - 점수는 질의 토큰의 역색인만 읽어 IDF x 질의 가중치 x 문서 가중치 로 누적 (전체 문서를 훑지 않음)
+ */
+public class InvertedIndex {
+
+    // 제목에 나온 토큰은 설명보다 가중치를 높게
+    private static final float TITLE_WEIGHT = 2.0f;
+    private static final float DESCRIPTION_WEIGHT = 1.0f;
+
+    private final Map<String, Map<Long, Float>> postings = new ConcurrentHashMap<>();
+
+    // 문서 ID -> 색인된 토큰 (교체/삭제 시 역색인 정리용)
+    private final Map<Long, String[]> documents = new ConcurrentHashMap<>();
+
+    /**
+     * 문서 추가 (이미 있으면 교체)
+     */
+    public synchronized void put(Long id, Map<String, Float> weights) {
+        remove(id);
+        weights.forEach((term, weight) -> postings.computeIfAbsent(term, key -> new ConcurrentHashMap<>()).put(id, weight));
+        documents.put(id, weights.keySet().toArray(new String[0]));
+    }
+
+    /**
+     * 문서 삭제
+     */
+    public synchronized void remove(Long id) {
+        String[] terms = documents.remove(id);
+        if (terms == null) {
+            return;
+        }
+        for (String term : terms) {
+            Map<Long, Float> docs = postings.get(term);
+            if (docs != null) {
+                docs.remove(id);
+                if (docs.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+
+    public int size() {
+        return documents.size();
+    }
+
+    public int termCount() {
+        return postings.size();
+    }
+
+    /**
+     * 질의와 겹치는 문서별 점수
+     */
+    public Map<Long, Float> score(Map<String, Float> query) {
+        int total = Math.max(documents.size(), 1);
+        Map<Long, Float> scores = new HashMap<>();
+        query.forEach((term, queryWeight) -> {
+            Map<Long, Float> docs = postings.get(term);
+            if (docs == null || docs.isEmpty()) {
+                return;
+            }
+            float idf = (float) Math.log(1.0 + (double) total / docs.size());
+            docs.forEach((id, docWeight) -> scores.merge(id, idf * queryWeight * docWeight, Float::sum));
+        });
+        return scores;
+    }
+
+    /**
+     * 점수 상위 k개 문서 ID (점수 내림차순, filter 를 통과한 문서만)
+     */
+    public static List<Long> top(Map<Long, Float> scores, int k, LongPredicate filter) {
+        PriorityQueue<Map.Entry<Long, Float>> heap = new PriorityQueue<>(k + 1, Map.Entry.comparingByValue());
+        for (Map.Entry<Long, Float> entry : scores.entrySet()) {
+            if (!filter.test(entry.getKey())) {
+                continue;
+            }
+            heap.offer(entry);
+            if (heap.size() > k) {
+                heap.poll();
+            }
+        }
+
+        List<Map.Entry<Long, Float>> ranked = new ArrayList<>(heap);
+        ranked.sort(Map.Entry.<Long, Float>comparingByValue(Comparator.reverseOrder()));
+        List<Long> ids = new ArrayList<>(ranked.size());
+        for (Map.Entry<Long, Float> entry : ranked) {
+            ids.add(entry.getKey());
+        }
+        return ids;
+    }
+
+    /**
+     * 제목/설명의 토큰별 가중치: (제목 등장 x 2 + 설명 등장 x 1) 의 로그 스케일
+     */
+    public static Map<String, Float> weights(String title, String description) {
+        Map<String, Float> counts = new HashMap<>();
+        TextTokenizer.termFrequencies(title).forEach((term, count) -> counts.merge(term, count * TITLE_WEIGHT, Float::sum));
+        TextTokenizer.termFrequencies(description).forEach((term, count) -> counts.merge(term, count * DESCRIPTION_WEIGHT, Float::sum));
+        counts.replaceAll((term, count) -> (float) (1.0 + Math.log(count)));
+        return counts;
+    }
+}
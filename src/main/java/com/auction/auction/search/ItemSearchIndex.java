@@ -0,0 +1,119 @@
+package com.auction.auction.search;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.auction.auction.model.Item;
+import com.auction.auction.model.Item.ItemStatus;
+import com.auction.auction.repository.ItemRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 물건 검색 색인 (제목/설명, DELETED 제외)
+ * - 등록/수정/삭제, 입찰(현재가), 상태 변경 시 트랜잭션 커밋 후 증분 반영
+ * - 상태/가격 필터는 색인에 함께 보관한 값으로 처리하므로 검색 시 테이블을 훑지 않음
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ItemSearchIndex {
+
+    private final ItemRepository itemRepository;
+
+    private final InvertedIndex index = new InvertedIndex();
+
+    // 물건 ID -> 필터용 상태
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * 검색 (점수 내림차순 물건 ID)
+     * statuses 가 비어 있으면 상태 필터 없음, 가격 범위는 현재가 기준 (null 이면 제한 없음)
+     */
+    public List<Long> search(String query, Set<ItemStatus> statuses, Long minPrice, Long maxPrice, int limit) {
+        Map<String, Float> terms = InvertedIndex.weights(query, null);
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+        return InvertedIndex.top(index.score(terms), limit, itemId -> {
+            Entry entry = entries.get(itemId);
+            return entry != null
+                    && (statuses == null || statuses.isEmpty() || statuses.contains(entry.status()))
+                    && (minPrice == null || entry.price() >= minPrice)
+                    && (maxPrice == null || entry.price() <= maxPrice);
+        });
+    }
+
+    /**
+     * 물건 등록/수정 반영 (삭제된 물건이면 색인에서 제거)
+     */
+    public void index(Item item) {
+        Long itemId = item.getId();
+        if (item.getStatus() == ItemStatus.DELETED) {
+            afterCommit(() -> remove(itemId));
+            return;
+        }
+        Map<String, Float> weights = InvertedIndex.weights(item.getTitle(), item.getDescription());
+        Entry entry = new Entry(item.getStatus(), item.getCurrentPrice());
+        afterCommit(() -> {
+            index.put(itemId, weights);
+            entries.put(itemId, entry);
+        });
+    }
+
+    /**
+     * 상태/현재가 변경 반영 (제목/설명은 그대로)
+     */
+    public void updateState(Long itemId, ItemStatus status, long price) {
+        if (status == ItemStatus.DELETED) {
+            afterCommit(() -> remove(itemId));
+            return;
+        }
+        afterCommit(() -> entries.computeIfPresent(itemId, (id, entry) -> new Entry(status, price)));
+    }
+
+    /**
+     * 시작 시 삭제되지 않은 물건으로 색인 구축
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void load() {
+        for (Item item : itemRepository.findByStatusNotOrderByCreatedAtDesc(ItemStatus.DELETED)) {
+            index.put(item.getId(), InvertedIndex.weights(item.getTitle(), item.getDescription()));
+            entries.put(item.getId(), new Entry(item.getStatus(), item.getCurrentPrice()));
+        }
+        log.info("검색 색인 구축: 물건 {}건, 토큰 {}개", index.size(), index.termCount());
+    }
+
+    private void remove(Long itemId) {
+        entries.remove(itemId);
+        index.remove(itemId);
+    }
+
+    // 트랜잭션이 커밋된 경우에만 반영
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    record Entry(ItemStatus status, long price) {
+    }
+}
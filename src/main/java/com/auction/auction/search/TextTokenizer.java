@@ -0,0 +1,79 @@
+package com.auction.auction.search;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 검색/유사도 계산용 토큰 분리
+ * - 한글은 띄어쓰기와 조사가 불규칙하므로 연속된 한글을 2글자 단위(bigram)로 분리 ("아이폰케이스" -> 아이, 이폰, 폰케, 케이, 이스)
+ * - 영문/숫자는 단어 단위 소문자 토큰 ("iPhone13" -> iphone, 13)
+ * - 한 글자 한글 단어는 그대로 토큰으로 사용
+ */
+public final class TextTokenizer {
+
+    private TextTokenizer() {
+    }
+
+    /**
+     * 토큰 목록 (중복 포함, 등장 순서)
+     */
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+
+        String lower = text.toLowerCase(Locale.ROOT);
+        int length = lower.length();
+        int i = 0;
+        while (i < length) {
+            char c = lower.charAt(i);
+            if (isHangul(c)) {
+                int start = i;
+                while (i < length && isHangul(lower.charAt(i))) {
+                    i++;
+                }
+                if (i - start == 1) {
+                    tokens.add(lower.substring(start, i));
+                } else {
+                    for (int j = start; j + 2 <= i; j++) {
+                        tokens.add(lower.substring(j, j + 2));
+                    }
+                }
+            } else if (Character.isLetter(c)) {
+                int start = i;
+                while (i < length && Character.isLetter(lower.charAt(i)) && !isHangul(lower.charAt(i))) {
+                    i++;
+                }
+                tokens.add(lower.substring(start, i));
+            } else if (Character.isDigit(c)) {
+                int start = i;
+                while (i < length && Character.isDigit(lower.charAt(i))) {
+                    i++;
+                }
+                tokens.add(lower.substring(start, i));
+            } else {
+                i++;
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * 토큰별 등장 횟수
+     */
+    public static Map<String, Integer> termFrequencies(String text) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        for (String token : tokenize(text)) {
+            frequencies.merge(token, 1, Integer::sum);
+        }
+        return frequencies;
+    }
+
+    private static boolean isHangul(char c) {
+        return (c >= '가' && c <= '힣') || (c >= 'ㄱ' && c <= 'ㆎ');
+    }
+}
@@ -0,0 +1,130 @@
+package com.auction.auction.seed;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.auction.auction.model.AuctionParticipant;
+import com.auction.auction.model.Item;
+import com.auction.auction.model.Item.ItemStatus;
+import com.auction.auction.model.User;
+import com.auction.auction.repository.AuctionParticipantRepository;
+import com.auction.auction.repository.ItemRepository;
+import com.auction.auction.repository.UserRepository;
+import com.auction.auction.service.AuctionSummaryService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 부하 테스트 데이터 (loadtest 프로필)
+ * - 판매자 1명, 입찰자 bidder1..N (같은 비밀번호, 충분한 기초 잔액)
+ * - 경매방 loadtest-room-1..R: 이미 진행 중 상태이며 모든 입찰자가 참여자로 등록됨
+ * 부하 테스트 클라이언트(src/loadtest)는 /api/items/active 에서 loadtest-room- 물건을 찾아 사용
+ * (loadtest 프로필은 embedded 프로필을 포함하므로 개발용 데이터 다음에 생성)
+ */
+@Component
+@Profile("loadtest")
+@Order(2)
+@RequiredArgsConstructor
+@Slf4j
+public class LoadTestSeeder implements ApplicationRunner {
+
+    public static final String ROOM_PREFIX = "loadtest-room-";
+
+    private final UserRepository userRepository;
+    private final ItemRepository itemRepository;
+    private final AuctionParticipantRepository participantRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final AuctionSummaryService summaryService;
+
+    @Value("${loadtest.seed.bidders:1000}")
+    private int bidders;
+
+    @Value("${loadtest.seed.rooms:10}")
+    private int rooms;
+
+    @Value("${loadtest.seed.password:loadtest}")
+    private String password;
+
+    @Value("${loadtest.seed.balance:1000000000000}")
+    private long balance;
+
+    @Value("${loadtest.seed.start-price:1000}")
+    private long startPrice;
+
+    @Value("${loadtest.seed.duration-hours:6}")
+    private long durationHours;
+
+    @Override
+    @Transactional
+    public void run(ApplicationArguments args) {
+        if (userRepository.existsByUsername("loadtest-seller")) {
+            log.info("부하 테스트 데이터가 이미 있음");
+            return;
+        }
+
+        long start = System.currentTimeMillis();
+        // BCrypt 는 느리므로 해시는 한 번만 계산해 모든 입찰자가 공유
+        String encoded = passwordEncoder.encode(password);
+
+        User seller = userRepository.save(user("loadtest-seller", encoded));
+
+        List<User> users = new ArrayList<>(bidders);
+        for (int i = 1; i <= bidders; i++) {
+            users.add(user("bidder" + i, encoded));
+        }
+        users = userRepository.saveAll(users);
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Item> items = new ArrayList<>(rooms);
+        for (int i = 1; i <= rooms; i++) {
+            Item item = new Item();
+            item.setTitle(ROOM_PREFIX + i);
+            item.setDescription("부하 테스트용 경매방 " + i);
+            item.setStartPrice(startPrice);
+            item.setStatus(ItemStatus.AUCTION_STARTED);
+            item.setRecruitmentEndTime(now.minusMinutes(1));
+            item.setAuctionStartTime(now.minusMinutes(1));
+            item.setEndTime(now.plusHours(durationHours));
+            item.setSeller(seller);
+            items.add(item);
+        }
+        items = itemRepository.saveAll(items);
+
+        List<AuctionParticipant> participants = new ArrayList<>(bidders * rooms);
+        for (Item item : items) {
+            for (User user : users) {
+                AuctionParticipant participant = new AuctionParticipant();
+                participant.setItem(item);
+                participant.setUser(user);
+                participants.add(participant);
+            }
+        }
+        participantRepository.saveAll(participants);
+        // 입찰 수/참여자 수/선두 요약 정보 채움
+        summaryService.rebuildAll();
+
+        log.info("부하 테스트 데이터 생성: 입찰자 {}명, 경매방 {}개, {}ms",
+                bidders, rooms, System.currentTimeMillis() - start);
+    }
+
+    private User user(String username, String encodedPassword) {
+        User user = new User();
+        user.setUsername(username);
+        user.setPassword(encodedPassword);
+        user.setEmail(username + "@loadtest.local");
+        user.setName(username);
+        user.setBalance(balance);
+        return user;
+    }
+}
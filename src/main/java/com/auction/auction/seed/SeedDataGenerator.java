@@ -0,0 +1,206 @@
+package com.auction.auction.seed;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.auction.auction.model.Item;
+import com.auction.auction.model.Item.ItemStatus;
+import com.auction.auction.model.User;
+import com.auction.auction.repository.ItemRepository;
+import com.auction.auction.repository.UserRepository;
+import com.auction.auction.service.AuctionSummaryService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 개발/테스트용 데이터 생성 (embedded 프로필, 빈 DB 일 때만)
+ * - 사용자 user1..N (같은 비밀번호)
+ * - 모든 ItemStatus 별로 물건 seed.items-per-status 개 (종료/판매 완료 물건은 낙찰자 포함)
+ * - 진행 중/종료된 물건마다 참여자와 seed.bids-per-item 건의 오름차순 입찰 내역
+ * 색인/장부 로더(ApplicationReadyEvent)보다 먼저 실행되도록 ApplicationRunner 로 생성
+ */
+@Component
+@Profile("embedded")
+@Order(1)
+@RequiredArgsConstructor
+@Slf4j
+public class SeedDataGenerator implements ApplicationRunner {
+
+    private static final String INSERT_PARTICIPANT =
+            "INSERT INTO auction_participants (item_id, user_id, joined_at) VALUES (?, ?, ?)";
+    private static final String INSERT_BID =
+            "INSERT INTO bids (item_id, bidder_id, bid_amount, bid_time) VALUES (?, ?, ?, ?)";
+    private static final int BATCH_SIZE = 1000;
+
+    private static final String[] TITLES = {
+            "아이폰 15 프로", "맥북 에어 M2", "갤럭시 S24", "닌텐도 스위치", "소니 헤드폰 WH-1000XM5",
+            "캠핑 의자", "로드 자전거", "LG 모니터 27인치", "아이패드 미니", "기계식 키보드",
+            "빈티지 카메라", "무선 청소기", "에어팟 프로", "캐논 EOS R6", "레고 테크닉"
+    };
+
+    private final UserRepository userRepository;
+    private final ItemRepository itemRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final JdbcTemplate jdbcTemplate;
+    private final AuctionSummaryService summaryService;
+
+    @Value("${seed.enabled:true}")
+    private boolean enabled;
+
+    @Value("${seed.users:50}")
+    private int userCount;
+
+    @Value("${seed.items-per-status:10}")
+    private int itemsPerStatus;
+
+    @Value("${seed.bids-per-item:20}")
+    private int bidsPerItem;
+
+    @Value("${seed.participants-per-item:10}")
+    private int participantsPerItem;
+
+    @Value("${seed.password:password}")
+    private String password;
+
+    @Value("${seed.balance:100000000}")
+    private long balance;
+
+    @Value("${seed.random-seed:42}")
+    private long randomSeed;
+
+    @Override
+    @Transactional
+    public void run(ApplicationArguments args) {
+        if (!enabled || userRepository.count() > 0) {
+            return;
+        }
+
+        long start = System.currentTimeMillis();
+        Random random = new Random(randomSeed);
+        LocalDateTime now = LocalDateTime.now();
+
+        List<User> users = createUsers();
+        List<Object[]> participants = new ArrayList<>();
+        List<Object[]> bids = new ArrayList<>();
+        int items = 0;
+
+        for (ItemStatus status : ItemStatus.values()) {
+            for (int i = 1; i <= itemsPerStatus; i++) {
+                User seller = users.get(random.nextInt(users.size()));
+                Item item = itemRepository.save(item(status, i, seller, now, random));
+                items++;
+
+                List<User> joined = pickParticipants(users, seller, random);
+                LocalDateTime joinedAt = item.getRecruitmentEndTime().minusMinutes(2);
+                for (User user : joined) {
+                    participants.add(new Object[]{item.getId(), user.getId(), Timestamp.valueOf(joinedAt)});
+                }
+
+                if (hasBids(status) && !joined.isEmpty()) {
+                    addBids(item, joined, bids, random);
+                }
+            }
+        }
+
+        batchInsert(INSERT_PARTICIPANT, participants);
+        batchInsert(INSERT_BID, bids);
+        // 입찰 수/참여자 수/선두 요약 정보 채움
+        summaryService.rebuildAll();
+
+        log.info("개발용 데이터 생성: 사용자 {}명, 물건 {}개, 참여 {}건, 입찰 {}건, {}ms (로그인: user1 / {})",
+                users.size(), items, participants.size(), bids.size(), System.currentTimeMillis() - start, password);
+    }
+
+    private List<User> createUsers() {
+        // BCrypt 는 느리므로 해시는 한 번만 계산해 모든 사용자가 공유
+        String encoded = passwordEncoder.encode(password);
+        List<User> users = new ArrayList<>(userCount);
+        for (int i = 1; i <= Math.max(userCount, 2); i++) {
+            User user = new User();
+            user.setUsername("user" + i);
+            user.setPassword(encoded);
+            user.setEmail("user" + i + "@seed.local");
+            user.setName("사용자" + i);
+            user.setBalance(balance);
+            users.add(user);
+        }
+        return userRepository.saveAll(users);
+    }
+
+    // 상태에 맞는 일정/가격을 가진 물건
+    private Item item(ItemStatus status, int index, User seller, LocalDateTime now, Random random) {
+        Item item = new Item();
+        item.setTitle(TITLES[random.nextInt(TITLES.length)] + " " + index);
+        item.setDescription(status.name().toLowerCase() + " 상태의 개발용 물건입니다. 상태 좋음, 직거래 가능.");
+        item.setStartPrice((1 + random.nextInt(100)) * 1_000L);
+        item.setStatus(status);
+        item.setSeller(seller);
+
+        // 등록 시각(created_at)은 저장 시 현재 시각으로 정해지므로 일정만 상태에 맞게 과거/미래로 설정
+        LocalDateTime registeredAt = switch (status) {
+            case RECRUITING, DELETED -> now.minusMinutes(1);
+            case AUCTION_STARTED -> now.minusHours(1);
+            case AUCTION_ENDED, SOLD -> now.minusDays(1 + random.nextInt(30));
+        };
+        item.setRecruitmentEndTime(registeredAt.plusMinutes(3));
+        item.setAuctionStartTime(registeredAt.plusMinutes(3));
+        item.setEndTime(status == ItemStatus.AUCTION_STARTED
+                ? now.plusHours(1 + random.nextInt(24))
+                : registeredAt.plusHours(1 + random.nextInt(24)));
+        return item;
+    }
+
+    private static boolean hasBids(ItemStatus status) {
+        return status == ItemStatus.AUCTION_STARTED || status == ItemStatus.AUCTION_ENDED || status == ItemStatus.SOLD;
+    }
+
+    private List<User> pickParticipants(List<User> users, User seller, Random random) {
+        List<User> candidates = new ArrayList<>(users);
+        candidates.remove(seller);
+        Collections.shuffle(candidates, random);
+        return candidates.subList(0, Math.min(participantsPerItem, candidates.size()));
+    }
+
+    // 참여자들이 번갈아 올려 부른 입찰 내역 (마지막 입찰이 현재가/낙찰가)
+    private void addBids(Item item, List<User> joined, List<Object[]> bids, Random random) {
+        long price = item.getStartPrice();
+        LocalDateTime bidTime = item.getAuctionStartTime();
+        User bidder = null;
+        for (int i = 0; i < bidsPerItem; i++) {
+            price += (1 + random.nextInt(5)) * 1_000L;
+            bidTime = bidTime.plusSeconds(1 + random.nextInt(60));
+            bidder = joined.get(random.nextInt(joined.size()));
+            bids.add(new Object[]{item.getId(), bidder.getId(), price, Timestamp.valueOf(bidTime)});
+        }
+        if (bidder == null) {
+            return;
+        }
+
+        item.setCurrentPrice(price);
+        if (item.getStatus() != ItemStatus.AUCTION_STARTED) {
+            item.setWinnerId(bidder.getId());
+        }
+        itemRepository.save(item);
+    }
+
+    private void batchInsert(String sql, List<Object[]> rows) {
+        for (int from = 0; from < rows.size(); from += BATCH_SIZE) {
+            jdbcTemplate.batchUpdate(sql, rows.subList(from, Math.min(from + BATCH_SIZE, rows.size())));
+        }
+    }
+}
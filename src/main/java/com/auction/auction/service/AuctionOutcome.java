@@ -0,0 +1,56 @@
+package com.auction.auction.service;
+
+import java.util.Arrays;
+import java.util.function.Function;
+
+/**
+ * 경매 서비스 처리 결과
+ * 예상된 업무 거절은 예외 대신 Rejected(사유 코드)로 반환하여 예외 생성/스택 추적 비용을 없앰
+ */
+public sealed interface AuctionOutcome<T> permits AuctionOutcome.Accepted, AuctionOutcome.Rejected {
+
+    Object[] NO_ARGS = new Object[0];
+
+    static <T> AuctionOutcome<T> accepted(T value) {
+        return new Accepted<>(value);
+    }
+
+    default boolean isAccepted() {
+        return this instanceof Accepted;
+    }
+
+    /**
+     * 수락된 값만 변환 (거절 결과는 그대로 전달)
+     */
+    default <R> AuctionOutcome<R> map(Function<? super T, ? extends R> mapper) {
+        if (this instanceof Accepted<T> accepted) {
+            return new Accepted<>(mapper.apply(accepted.value()));
+        }
+        return ((Rejected<T>) this).retype();
+    }
+
+    /**
+     * 처리 성공
+     */
+    record Accepted<T>(T value) implements AuctionOutcome<T> {
+    }
+
+    /**
+     * 업무 규칙에 의한 거절 (args 는 메시지 인자)
+     */
+    record Rejected<T>(RejectReason reason, Object[] args) implements AuctionOutcome<T> {
+
+        /**
+         * 결과 타입만 바꿔서 그대로 전달 (거절 결과는 값이 없으므로 안전)
+         */
+        @SuppressWarnings("unchecked")
+        public <R> AuctionOutcome<R> retype() {
+            return (AuctionOutcome<R>) this;
+        }
+
+        @Override
+        public String toString() {
+            return reason + Arrays.toString(args);
+        }
+    }
+}
@@ -6,6 +6,9 @@ import java.util.List;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.auction.auction.datasource.ReplicaLagGuard;
+import com.auction.auction.dto.MyAuctionRow;
+import com.auction.auction.metrics.AuctionMetrics;
 import com.auction.auction.model.AuctionParticipant;
 import com.auction.auction.model.Bid;
 import com.auction.auction.model.Item;
@@ -14,7 +17,10 @@ import com.auction.auction.model.User;
 import com.auction.auction.repository.AuctionParticipantRepository;
 import com.auction.auction.repository.BidRepository;
 import com.auction.auction.repository.ItemRepository;
+import com.auction.auction.scheduler.AuctionDeadlineTracker;
+import com.auction.auction.search.ItemSearchIndex;
 
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 
 @Service
@@ -24,40 +30,63 @@ public class AuctionService {
     private final AuctionParticipantRepository participantRepository;
     private final BidRepository bidRepository;
     private final ItemRepository itemRepository;
+    private final AuctionDeadlineTracker deadlineTracker;
+    private final BalanceHoldService holdService;
+    private final LedgerService ledgerService;
+    private final AuctionMetrics metrics;
+    private final ItemSearchIndex searchIndex;
+    private final ReplicaLagGuard replicaLagGuard;
+    private final BidArchiveService bidArchiveService;
+    private final AuctionSummaryService summaryService;
 
     /**
      * 경매 참여
+     * 업무 규칙에 의한 거절은 예외 대신 거절 사유로 반환
      */
     @Transactional
-    public void joinAuction(Long itemId, User user) {
-        Item item = itemRepository.findById(itemId)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 물건입니다."));
+    public AuctionOutcome<AuctionParticipant> joinAuction(Long itemId, User user) {
+        Timer.Sample sample = metrics.start();
+        try {
+            return doJoinAuction(itemId, user);
+        } finally {
+            sample.stop(metrics.join());
+        }
+    }
+
+    private AuctionOutcome<AuctionParticipant> doJoinAuction(Long itemId, User user) {
+        Item item = itemRepository.findById(itemId).orElse(null);
+        if (item == null) {
+            return RejectReason.ITEM_NOT_FOUND.outcome();
+        }
 
         // 모집 중인지 확인
         if (item.getStatus() != ItemStatus.RECRUITING) {
-            throw new IllegalStateException("현재 참여자를 모집하는 경매가 아닙니다.");
+            return RejectReason.NOT_RECRUITING.outcome();
         }
 
         // 모집 종료 시간이 지났는지 확인
         if (LocalDateTime.now().isAfter(item.getRecruitmentEndTime())) {
-            throw new IllegalStateException("모집 기간이 종료되었습니다.");
+            return RejectReason.RECRUITMENT_CLOSED.outcome();
         }
 
         // 이미 참여했는지 확인
         if (participantRepository.existsByItemIdAndUserId(itemId, user.getId())) {
-            throw new IllegalStateException("이미 참여한 경매입니다.");
+            return RejectReason.ALREADY_JOINED.outcome();
         }
 
         // 판매자는 자신의 경매에 참여할 수 없음
         if (item.getSeller().getId().equals(user.getId())) {
-            throw new IllegalStateException("자신이 등록한 물건의 경매에는 참여할 수 없습니다.");
+            return RejectReason.SELLER_CANNOT_JOIN.outcome();
         }
 
         // 참여자 등록
         AuctionParticipant participant = new AuctionParticipant();
         participant.setItem(item);
         participant.setUser(user);
-        participantRepository.save(participant);
+        participant = participantRepository.save(participant);
+        summaryService.onJoined(itemId);
+        replicaLagGuard.pinAfterCommit(user.getUsername());
+        return AuctionOutcome.accepted(participant);
     }
 
     /**
@@ -68,15 +97,33 @@ public class AuctionService {
         return participantRepository.findByUserIdOrderByJoinedAtDesc(userId);
     }
 
+    /**
+     * 내 경매방 목록 (물건 요약과 내 최고 입찰가를 한 번에 조회)
+     */
+    @Transactional(readOnly = true)
+    public List<MyAuctionRow> getMyAuctions(Long userId) {
+        return participantRepository.findMyAuctions(userId);
+    }
+
     /**
      * 경매방 나가기 (참여 취소)
+     * 진행 중인 경매의 선두 입찰자는 나갈 수 없음 (마감 시 낙찰자가 되므로 홀드를 마감까지 유지)
+     * 물건 행을 잠그고 확인하므로 같은 물건의 입찰과 겹쳐 선두가 바뀌는 중에 나가지 않음
      */
     @Transactional
     public void leaveAuction(Long itemId, Long userId) {
+        Item item = itemRepository.findByIdForUpdate(itemId)
+                .orElseThrow(() -> new IllegalArgumentException("물건을 찾을 수 없습니다."));
         AuctionParticipant participant = participantRepository.findByItemIdAndUserId(itemId, userId)
                 .orElseThrow(() -> new IllegalArgumentException("참여하지 않은 경매입니다."));
 
+        if (item.getStatus() == ItemStatus.AUCTION_STARTED && userId.equals(item.getLeaderId())) {
+            throw new IllegalStateException("현재 최고 입찰자는 경매방을 나갈 수 없습니다.");
+        }
+
         participantRepository.delete(participant);
+        summaryService.onLeft(itemId);
+        replicaLagGuard.pinAfterCommit(participant.getUser().getUsername());
     }
 
     /**
@@ -97,35 +144,55 @@ public class AuctionService {
 
     /**
      * 입찰
+     * 업무 규칙에 의한 거절은 예외 대신 거절 사유로 반환 (입찰 경쟁 중 대부분을 차지하는 거절 경로에서 예외 생성 비용 없음)
+     * 물건 행을 잠그고 읽으므로 같은 물건의 입찰은 앞 입찰이 커밋된 현재가를 기준으로 검증됨
      */
     @Transactional
-    public Bid placeBid(Long itemId, User user, Long bidAmount) {
-        Item item = itemRepository.findById(itemId)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 물건입니다."));
+    public AuctionOutcome<Bid> placeBid(Long itemId, User user, Long bidAmount) {
+        long start = System.nanoTime();
+        Item item = itemRepository.findByIdForUpdate(itemId).orElse(null);
+        if (item == null) {
+            return RejectReason.ITEM_NOT_FOUND.outcome();
+        }
 
         // 경매 진행 중인지 확인
         if (item.getStatus() != ItemStatus.AUCTION_STARTED) {
-            throw new IllegalStateException("현재 경매가 진행 중이 아닙니다.");
+            return RejectReason.NOT_STARTED.outcome();
         }
 
-        // 경매 종료 시간이 지났는지 확인
-        if (LocalDateTime.now().isAfter(item.getEndTime())) {
-            throw new IllegalStateException("경매가 종료되었습니다.");
+        // 경매 종료 시간이 지났는지 확인 (소프트 클로즈로 연장된 마감 시간 기준)
+        LocalDateTime now = LocalDateTime.now();
+        if (now.isAfter(deadlineTracker.deadlineOf(itemId, item.getEndTime()))) {
+            return RejectReason.AUCTION_ENDED.outcome();
         }
 
         // 참여자인지 확인
         if (!participantRepository.existsByItemIdAndUserId(itemId, user.getId())) {
-            throw new IllegalStateException("경매에 참여하지 않은 사용자입니다.");
+            return RejectReason.NOT_PARTICIPANT.outcome();
         }
 
         // 입찰가가 현재가보다 높은지 확인
         if (bidAmount <= item.getCurrentPrice()) {
-            throw new IllegalArgumentException("입찰가는 현재가보다 높아야 합니다.");
+            return RejectReason.BID_TOO_LOW.outcome();
+        }
+
+        metrics.recordSince(metrics.bidStage(AuctionMetrics.STAGE_VALIDATION), start);
+
+        // 선두 입찰 금액 홀드 (다른 경매에 묶인 금액을 제외한 사용 가능 잔액 확인, 이전 선두의 홀드 해제)
+        start = System.nanoTime();
+        long balance = ledgerService.balanceOf(user.getId());
+        BalanceHoldService.HoldTicket hold = holdService.hold(itemId, user.getId(), balance, bidAmount);
+        metrics.recordSince(metrics.bidStage(AuctionMetrics.STAGE_HOLD), start);
+        if (hold == null) {
+            return RejectReason.INSUFFICIENT_BALANCE.outcome(holdService.available(user.getId(), balance, itemId));
         }
 
-        // 계좌 잔액 확인
-        if (user.getBalance() < bidAmount) {
-            throw new IllegalArgumentException("계좌 잔액이 부족합니다. (현재 잔액: " + user.getBalance() + "원)");
+        // 입찰 수락과 마감 연장을 원자적으로 처리 (마감 직전 입찰이면 마감 시간 연장)
+        // 거절은 트랜잭션을 롤백시키지 않으므로 방금 잡은 홀드는 직접 취소
+        LocalDateTime deadline = deadlineTracker.acceptBid(itemId, item.getEndTime(), now);
+        if (deadline == null) {
+            hold.cancel();
+            return RejectReason.AUCTION_ENDED.outcome();
         }
 
         // 입찰 등록
@@ -133,20 +200,40 @@ public class AuctionService {
         bid.setItem(item);
         bid.setBidder(user);
         bid.setBidAmount(bidAmount);
+        start = System.nanoTime();
         bidRepository.save(bid);
+        metrics.recordSince(metrics.bidStage(AuctionMetrics.STAGE_INSERT), start);
 
-        // 현재가 업데이트
+        // 현재가 및 마감 시간 업데이트 (같은 UPDATE 문이므로 연장 때문에 쓰기가 늘지 않음, 커밋 시 flush)
         item.setCurrentPrice(bidAmount);
+        item.setEndTime(deadline);
         itemRepository.save(item);
-
-        return bid;
+        // 입찰 수와 선두는 동시 입찰에도 유실되지 않도록 원자적 UPDATE
+        start = System.nanoTime();
+        summaryService.onBidAccepted(itemId, user.getId(), user.getUsername());
+        metrics.recordSince(metrics.bidStage(AuctionMetrics.STAGE_SUMMARY), start);
+        searchIndex.updateState(itemId, item.getStatus(), bidAmount);
+        // 복제 지연 동안 내 입찰 내역/참여 목록은 주 DB 에서 조회
+        replicaLagGuard.pinAfterCommit(user.getUsername());
+
+        // 커밋(현재가 UPDATE flush 포함) 시간은 트랜잭션 완료 시 기록
+        metrics.recordCommit();
+
+        return AuctionOutcome.accepted(bid);
     }
 
     /**
-     * 특정 경매의 입찰 내역 조회
+     * 특정 경매의 입찰 내역 조회 (includeArchived 면 보관된 입찰 포함)
      */
     @Transactional(readOnly = true)
-    public List<Bid> getAuctionBids(Long itemId) {
-        return bidRepository.findByItemIdOrderByBidTimeDesc(itemId);
+    public List<Bid> getAuctionBids(Long itemId, boolean includeArchived) {
+        return bidArchiveService.findByItem(itemId, includeArchived);
+    }
+
+    /**
+     * 특정 경매의 입찰 내역 ETag 값 (내역을 읽기 전에 변경 여부 확인)
+     */
+    public String getAuctionBidsTag(Long itemId, boolean includeArchived) {
+        return bidArchiveService.historyTag(itemId, includeArchived);
     }
 }
@@ -0,0 +1,92 @@
+package com.auction.auction.service;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.auction.auction.model.Item;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 경매 요약 정보 (items.bid_count / participant_count / leader_id / leader_name)
+ * - 입찰 수락, 참여, 나가기 트랜잭션 안에서 원자적 UPDATE (동시 입찰/참여에도 증감이 유실되지 않음)
+ * - Item 엔티티에서는 읽기 전용이므로 엔티티 저장이 요약 값을 덮어쓰지 않음
+ * - JDBC 로 바꾸므로 커밋 후 해당 물건의 2차 캐시 항목을 직접 제거하고 물건 목록 변경 순번을 올림
+ */
+@Service
+@RequiredArgsConstructor
+public class AuctionSummaryService {
+
+    private static final String BID_ACCEPTED_SQL =
+            "UPDATE items SET bid_count = bid_count + 1, leader_id = ?, leader_name = ? WHERE id = ?";
+    private static final String JOINED_SQL =
+            "UPDATE items SET participant_count = participant_count + 1 WHERE id = ?";
+    private static final String LEFT_SQL =
+            "UPDATE items SET participant_count = participant_count - 1 WHERE id = ? AND participant_count > 0";
+
+    // 전체 재계산 (JDBC 로 입찰/참여를 직접 넣는 개발용 데이터 생성 후)
+    private static final String[] REBUILD_SQL = {
+            "UPDATE items SET " +
+            "bid_count = (SELECT COUNT(*) FROM bids b WHERE b.item_id = items.id) " +
+            "+ (SELECT COUNT(*) FROM bids_archive a WHERE a.item_id = items.id), " +
+            "participant_count = (SELECT COUNT(*) FROM auction_participants p WHERE p.item_id = items.id)",
+            "UPDATE items SET leader_id = (SELECT b.bidder_id FROM bids b WHERE b.item_id = items.id " +
+            "ORDER BY b.bid_amount DESC, b.id DESC LIMIT 1)",
+            "UPDATE items SET leader_id = (SELECT a.bidder_id FROM bids_archive a WHERE a.item_id = items.id " +
+            "ORDER BY a.bid_amount DESC, a.id DESC LIMIT 1) WHERE leader_id IS NULL",
+            "UPDATE items SET leader_name = (SELECT u.username FROM users u WHERE u.id = items.leader_id)"
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+    private final ItemChangeSequence changeSequence;
+
+    /**
+     * 입찰 수락: 입찰 수 +1, 선두 변경 (수락된 입찰은 항상 현재 최고가)
+     */
+    public void onBidAccepted(Long itemId, Long bidderId, String bidderName) {
+        jdbcTemplate.update(BID_ACCEPTED_SQL, bidderId, bidderName, itemId);
+        evictAfterCommit(itemId);
+        changeSequence.bumpAfterCommit();
+    }
+
+    public void onJoined(Long itemId) {
+        jdbcTemplate.update(JOINED_SQL, itemId);
+        evictAfterCommit(itemId);
+        changeSequence.bumpAfterCommit();
+    }
+
+    public void onLeft(Long itemId) {
+        jdbcTemplate.update(LEFT_SQL, itemId);
+        evictAfterCommit(itemId);
+        changeSequence.bumpAfterCommit();
+    }
+
+    /**
+     * 모든 물건의 요약 정보를 입찰/참여 테이블에서 다시 계산
+     */
+    public void rebuildAll() {
+        for (String sql : REBUILD_SQL) {
+            jdbcTemplate.update(sql);
+        }
+        entityManagerFactory.getCache().evict(Item.class);
+        changeSequence.bumpAfterCommit();
+    }
+
+    // 같은 트랜잭션의 엔티티 UPDATE 가 캐시에 넣은 항목(요약 값은 이전 값)까지 지우도록 커밋 후 제거
+    private void evictAfterCommit(Long itemId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            entityManagerFactory.getCache().evict(Item.class, itemId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                entityManagerFactory.getCache().evict(Item.class, itemId);
+            }
+        });
+    }
+}
@@ -0,0 +1,351 @@
+package com.auction.auction.service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongConsumer;
+import java.util.function.LongSupplier;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.auction.auction.model.BalanceHold;
+import com.auction.auction.model.BalanceHold.HoldStatus;
+import com.auction.auction.repository.BalanceHoldRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 입찰 금액 홀드 (예약) 관리
+ * - 입찰이 선두가 되는 순간 해당 금액을 묶고, 추월당하면 해제
+ * - 사용자별 홀드는 스트라이프 락으로 보호되는 메모리 장부에서 계산 (입찰 경로에서 사용자 간 DB 락 없음)
+ * - 변경 내역은 호출한 트랜잭션 안에서 balance_holds 에 기록 (재시작 시 ACTIVE 홀드를 빠짐없이 복원)
+ * - 메모리 장부는 홀드를 잡을 때 바로 바꾸고 롤백 시 되돌리며, 정산은 커밋 후에 반영
+ * - 선두 홀드는 추월당하거나 낙찰로 정산될 때까지 유지 (선두 입찰자는 경매방을 나갈 수 없음)
+ * - 잔액 인출도 같은 스트라이프에서 확인하고, 트랜잭션이 끝날 때까지 인출 금액을 홀드처럼 묶어 둠
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BalanceHoldService {
+
+    private static final int STRIPES = 64;
+
+    private static final String UPDATE_SQL =
+            "UPDATE balance_holds SET amount = ?, status = ?, updated_at = ? WHERE item_id = ? AND user_id = ?";
+    private static final String INSERT_SQL =
+            "INSERT INTO balance_holds (user_id, item_id, amount, status, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?)";
+    private static final String CLOSE_SQL =
+            "UPDATE balance_holds SET status = ?, updated_at = ? WHERE item_id = ? AND user_id = ? AND status = 'ACTIVE'";
+
+    private final BalanceHoldRepository holdRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    // userId -> (itemId -> 홀드 금액)
+    private final Map<Long, Map<Long, Long>> holdsByUser = new ConcurrentHashMap<>();
+
+    // itemId -> 현재 홀드를 가진 선두 입찰자
+    private final Map<Long, Long> leaders = new ConcurrentHashMap<>();
+
+    // userId -> 아직 트랜잭션이 끝나지 않은 인출 금액
+    private final Map<Long, Long> pendingWithdrawals = new ConcurrentHashMap<>();
+
+    private final Object[] stripes = createStripes();
+
+    /**
+     * 선두 입찰 홀드
+     * 사용 가능 잔액(잔액 - 다른 경매에 묶인 금액)이 부족하면 아무것도 바꾸지 않고 null 반환
+     * 이전 선두 입찰자의 홀드는 해제되며, 트랜잭션이 롤백되거나 반환된 티켓을 취소하면 원래 상태로 되돌림
+     */
+    public HoldTicket hold(Long itemId, Long userId, long balance, long amount) {
+        HoldTicket ticket = new HoldTicket(itemId, userId);
+        boolean[] insufficient = new boolean[1];
+        List<HoldChange> changes = new ArrayList<>(2);
+
+        leaders.compute(itemId, (id, previousLeader) -> {
+            synchronized (stripe(userId)) {
+                Map<Long, Long> holds = holdsByUser.computeIfAbsent(userId, key -> new HashMap<>());
+                long available = balance - totalOf(holds) - pendingOf(userId) + holds.getOrDefault(itemId, 0L);
+                if (available < amount) {
+                    if (holds.isEmpty()) {
+                        holdsByUser.remove(userId);
+                    }
+                    insufficient[0] = true;
+                    return previousLeader;
+                }
+                ticket.previousAmount = holds.put(itemId, amount);
+                changes.add(new HoldChange(userId, itemId, amount, HoldStatus.ACTIVE));
+            }
+
+            if (previousLeader != null && !previousLeader.equals(userId)) {
+                ticket.previousLeader = previousLeader;
+                ticket.previousLeaderAmount = remove(previousLeader, itemId);
+                if (ticket.previousLeaderAmount != null) {
+                    changes.add(new HoldChange(previousLeader, itemId, ticket.previousLeaderAmount, HoldStatus.RELEASED));
+                }
+            }
+            return userId;
+        });
+
+        if (insufficient[0]) {
+            return null;
+        }
+
+        // 기록 도중 실패해도 메모리 장부가 되돌려지도록 먼저 등록
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        ticket.rolledBack();
+                    }
+                }
+            });
+        }
+        write(changes);
+        return ticket;
+    }
+
+    /**
+     * 사용 가능 잔액 (itemId 경매에 이미 묶인 금액은 다시 사용할 수 있으므로 제외하고 계산)
+     */
+    public long available(Long userId, long balance, Long itemId) {
+        synchronized (stripe(userId)) {
+            Map<Long, Long> holds = holdsByUser.get(userId);
+            if (holds == null) {
+                return balance - pendingOf(userId);
+            }
+            return balance - totalOf(holds) - pendingOf(userId) + holds.getOrDefault(itemId, 0L);
+        }
+    }
+
+    /**
+     * 사용자에게 묶인 총 금액
+     */
+    public long heldTotal(Long userId) {
+        synchronized (stripe(userId)) {
+            Map<Long, Long> holds = holdsByUser.get(userId);
+            return holds == null ? 0L : totalOf(holds);
+        }
+    }
+
+    /**
+     * 잔액을 target 으로 변경 (차액을 post 로 기록)
+     * 입찰 홀드와 같은 스트라이프 안에서 현재 잔액을 다시 읽고 묶인 금액(진행 중인 인출 포함)과 비교하므로
+     * 확인과 기록 사이에 새 홀드가 끼어들지 않음, 줄어드는 금액은 트랜잭션이 끝날 때까지 묶어 둠
+     * (커밋 전 잔액을 읽은 입찰이 인출될 금액을 다시 홀드하지 못하게 함)
+     */
+    public void changeBalance(Long userId, long target, LongSupplier currentBalance, LongConsumer post) {
+        synchronized (stripe(userId)) {
+            Map<Long, Long> holds = holdsByUser.get(userId);
+            long reserved = (holds == null ? 0L : totalOf(holds)) + pendingOf(userId);
+            if (target < reserved) {
+                throw new IllegalArgumentException("진행 중인 입찰에 묶인 금액(" + reserved + "원)보다 작게 설정할 수 없습니다.");
+            }
+            long delta = target - currentBalance.getAsLong();
+            if (delta < 0) {
+                long withdrawal = -delta;
+                pendingWithdrawals.merge(userId, withdrawal, Long::sum);
+                afterCompletion(() -> {
+                    synchronized (stripe(userId)) {
+                        pendingWithdrawals.computeIfPresent(userId,
+                                (id, amount) -> amount == withdrawal ? null : amount - withdrawal);
+                    }
+                });
+            }
+            post.accept(delta);
+        }
+    }
+
+    /**
+     * 낙찰 확정: 낙찰자의 홀드를 정산 처리
+     * 메모리 장부는 마감 트랜잭션이 커밋된 뒤에 반영 (마감이 롤백되면 홀드는 그대로 남음)
+     */
+    public void settle(Long itemId, Long winnerId) {
+        close(itemId, winnerId, HoldStatus.SETTLED);
+    }
+
+    /**
+     * 시작 시 ACTIVE 홀드를 메모리 장부로 복원
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void load() {
+        for (BalanceHold hold : holdRepository.findByStatus(HoldStatus.ACTIVE)) {
+            holdsByUser.computeIfAbsent(hold.getUserId(), key -> new HashMap<>())
+                    .put(hold.getItemId(), hold.getAmount());
+            leaders.put(hold.getItemId(), hold.getUserId());
+        }
+        log.info("ACTIVE 홀드 복원: {}명", holdsByUser.size());
+    }
+
+    // DB 는 현재 트랜잭션에서 바꾸고, 메모리 장부는 커밋 후 제거
+    private void close(Long itemId, Long userId, HoldStatus status) {
+        jdbcTemplate.update(CLOSE_SQL, status.name(), Timestamp.valueOf(LocalDateTime.now()), itemId, userId);
+        afterCommit(() -> {
+            leaders.remove(itemId, userId);
+            remove(userId, itemId);
+        });
+    }
+
+    // 홀드 제거 후 제거된 금액 반환
+    private Long remove(Long userId, Long itemId) {
+        synchronized (stripe(userId)) {
+            Map<Long, Long> holds = holdsByUser.get(userId);
+            Long amount = holds == null ? null : holds.remove(itemId);
+            if (amount != null && holds.isEmpty()) {
+                holdsByUser.remove(userId);
+            }
+            return amount;
+        }
+    }
+
+    // 홀드 변경을 현재 트랜잭션에서 기록 (경매별 사용자당 한 행)
+    private void write(List<HoldChange> changes) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        for (HoldChange change : changes) {
+            String status = change.status().name();
+            if (jdbcTemplate.update(UPDATE_SQL, change.amount(), status, now, change.itemId(), change.userId()) == 0) {
+                jdbcTemplate.update(INSERT_SQL, change.userId(), change.itemId(), change.amount(), status, now, now);
+            }
+        }
+    }
+
+    // 홀드 변경을 되돌리고 되돌린 변경 내역 반환
+    private List<HoldChange> rollback(HoldTicket ticket) {
+        List<HoldChange> changes = new ArrayList<>(2);
+        leaders.compute(ticket.itemId, (id, leader) -> {
+            if (!ticket.userId.equals(leader)) {
+                return leader; // 그 사이 다른 입찰이 선두가 됨
+            }
+            synchronized (stripe(ticket.userId)) {
+                Map<Long, Long> holds = holdsByUser.computeIfAbsent(ticket.userId, key -> new HashMap<>());
+                if (ticket.previousAmount != null) {
+                    holds.put(ticket.itemId, ticket.previousAmount);
+                    changes.add(new HoldChange(ticket.userId, ticket.itemId, ticket.previousAmount, HoldStatus.ACTIVE));
+                } else {
+                    Long amount = holds.remove(ticket.itemId);
+                    if (holds.isEmpty()) {
+                        holdsByUser.remove(ticket.userId);
+                    }
+                    changes.add(new HoldChange(ticket.userId, ticket.itemId, amount == null ? 0L : amount, HoldStatus.RELEASED));
+                }
+            }
+            if (ticket.previousLeader == null) {
+                return ticket.previousAmount != null ? ticket.userId : null;
+            }
+            if (ticket.previousLeaderAmount != null) {
+                synchronized (stripe(ticket.previousLeader)) {
+                    holdsByUser.computeIfAbsent(ticket.previousLeader, key -> new HashMap<>())
+                            .put(ticket.itemId, ticket.previousLeaderAmount);
+                    changes.add(new HoldChange(ticket.previousLeader, ticket.itemId, ticket.previousLeaderAmount, HoldStatus.ACTIVE));
+                }
+            }
+            return ticket.previousLeader;
+        });
+        return changes;
+    }
+
+    // 현재 트랜잭션이 커밋되면 실행 (트랜잭션 밖이면 바로 실행)
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    // 현재 트랜잭션이 끝나면 (커밋/롤백 모두) 실행 (트랜잭션 밖이면 바로 실행)
+    private static void afterCompletion(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                action.run();
+            }
+        });
+    }
+
+    private long pendingOf(Long userId) {
+        return pendingWithdrawals.getOrDefault(userId, 0L);
+    }
+
+    private Object stripe(Long userId) {
+        return stripes[(Long.hashCode(userId) & 0x7fffffff) % STRIPES];
+    }
+
+    private static long totalOf(Map<Long, Long> holds) {
+        long total = 0L;
+        for (long amount : holds.values()) {
+            total += amount;
+        }
+        return total;
+    }
+
+    private static Object[] createStripes() {
+        Object[] locks = new Object[STRIPES];
+        for (int i = 0; i < STRIPES; i++) {
+            locks[i] = new Object();
+        }
+        return locks;
+    }
+
+    record HoldChange(Long userId, Long itemId, long amount, HoldStatus status) {
+    }
+
+    /**
+     * 홀드 티켓 (취소 시 홀드 이전 상태로 되돌림, 여러 번 취소해도 한 번만 반영)
+     * 트랜잭션이 롤백되면 DB 기록은 함께 롤백되므로 메모리만, 직접 취소하면 되돌린 상태를 DB 에도 기록
+     */
+    public final class HoldTicket {
+        private final Long itemId;
+        private final Long userId;
+        private Long previousAmount;
+        private Long previousLeader;
+        private Long previousLeaderAmount;
+        private boolean cancelled;
+
+        private HoldTicket(Long itemId, Long userId) {
+            this.itemId = itemId;
+            this.userId = userId;
+        }
+
+        public void cancel() {
+            if (markCancelled()) {
+                write(rollback(this));
+            }
+        }
+
+        private void rolledBack() {
+            if (markCancelled()) {
+                rollback(this);
+            }
+        }
+
+        private synchronized boolean markCancelled() {
+            if (cancelled) {
+                return false;
+            }
+            cancelled = true;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,235 @@
+package com.auction.auction.service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.auction.auction.metrics.AuctionMetrics;
+import com.auction.auction.model.ArchivedBid;
+import com.auction.auction.model.Bid;
+import com.auction.auction.repository.ArchivedBidRepository;
+import com.auction.auction.repository.BidRepository;
+
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 입찰 내역 보관
+ * - 종료(AUCTION_ENDED / SOLD) 후 auction.bid-archive.after-days 일이 지난 경매의 입찰을 bids 에서 bids_archive 로 이동
+ *   (bids 에는 진행 중이거나 최근 종료된 경매의 입찰만 남아 인덱스와 작업 세트가 작게 유지됨)
+ * - 한 번에 batch-size 건씩 각각의 트랜잭션으로 옮기고 배치 사이에 pause-ms 만큼 쉬며, 한 번 실행에 max-batches 배치까지만 처리
+ * - 배치 사이 쉬는 시간까지 합치면 수 분이 걸릴 수 있으므로 스케줄러 스레드가 아닌 전용 스레드에서 실행
+ *   (이전 실행이 끝나지 않았으면 이번 실행은 건너뜀)
+ * - 조회는 기본적으로 bids 만 읽고, includeArchived 를 요청한 경우에만 bids_archive 를 함께 읽음
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BidArchiveService {
+
+    // 보관 대상 경매 (종료 시각 순, 아직 bids 에 입찰이 남은 것만)
+    private static final String SELECT_ITEMS =
+            "SELECT i.id FROM items i WHERE i.status IN ('AUCTION_ENDED', 'SOLD') AND i.end_time < ? " +
+            "AND EXISTS (SELECT 1 FROM bids b WHERE b.item_id = i.id) ORDER BY i.end_time LIMIT ?";
+    private static final String SELECT_BATCH =
+            "SELECT id FROM bids WHERE item_id = ? ORDER BY id LIMIT ?";
+    private static final String COPY_BATCH =
+            "INSERT INTO bids_archive (id, item_id, bidder_id, bid_amount, bid_time) " +
+            "SELECT id, item_id, bidder_id, bid_amount, bid_time FROM bids WHERE item_id = ? AND id BETWEEN ? AND ?";
+    private static final String DELETE_BATCH =
+            "DELETE FROM bids WHERE item_id = ? AND id BETWEEN ? AND ?";
+
+    private static final Comparator<Bid> LATEST_FIRST = Comparator.comparing(Bid::getBidTime).reversed();
+
+    private final BidRepository bidRepository;
+    private final ArchivedBidRepository archivedBidRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final AuctionMetrics metrics;
+
+    // 보관 작업 전용 스레드 (대기열 없음: 실행 중이면 새 실행은 거절)
+    private final ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+            new SynchronousQueue<>(), runnable -> {
+                Thread thread = new Thread(runnable, "bid-archive");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    @Value("${auction.bid-archive.enabled:true}")
+    private boolean enabled;
+
+    @Value("${auction.bid-archive.after-days:30}")
+    private long afterDays;
+
+    @Value("${auction.bid-archive.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${auction.bid-archive.pause-ms:200}")
+    private long pauseMillis;
+
+    @Value("${auction.bid-archive.max-batches:500}")
+    private int maxBatches;
+
+    /**
+     * 특정 경매의 입찰 내역 (최신순)
+     */
+    @Transactional(readOnly = true)
+    public List<Bid> findByItem(Long itemId, boolean includeArchived) {
+        List<Bid> bids = bidRepository.findByItemIdOrderByBidTimeDesc(itemId);
+        if (!includeArchived) {
+            return bids;
+        }
+        return merge(bids, archivedBidRepository.findByItemIdOrderByBidTimeDesc(itemId));
+    }
+
+    /**
+     * 특정 경매의 입찰 수
+     */
+    @Transactional(readOnly = true)
+    public long countByItem(Long itemId, boolean includeArchived) {
+        long count = bidRepository.countByItemId(itemId);
+        return includeArchived ? count + archivedBidRepository.countByItemId(itemId) : count;
+    }
+
+    /**
+     * 특정 경매의 입찰 내역 ETag 값 (마지막 입찰 번호 + 입찰 수, 입찰 행은 읽지 않는 인덱스 조회)
+     * 보관 작업으로 입찰이 옮겨지면 bids 의 입찰 수가 바뀌므로 ETag 도 바뀜
+     */
+    @Transactional(readOnly = true)
+    public String historyTag(Long itemId, boolean includeArchived) {
+        Long lastBidId = bidRepository.findLastBidId(itemId);
+        String tag = itemId + "-" + (lastBidId != null ? lastBidId : 0) + "-" + bidRepository.countByItemId(itemId);
+        return includeArchived ? tag + "-" + archivedBidRepository.countByItemId(itemId) : tag;
+    }
+
+    /**
+     * 특정 사용자의 입찰 내역 (최신순)
+     */
+    @Transactional(readOnly = true)
+    public List<Bid> findByBidder(Long bidderId, boolean includeArchived) {
+        List<Bid> bids = bidRepository.findByBidderIdOrderByBidTimeDesc(bidderId);
+        if (!includeArchived) {
+            return bids;
+        }
+        return merge(bids, archivedBidRepository.findByBidderIdOrderByBidTimeDesc(bidderId));
+    }
+
+    /**
+     * 매일 새벽 보관 작업 (트래픽이 적은 시간), 전용 스레드에 넘기고 바로 반환
+     */
+    @Scheduled(cron = "${auction.bid-archive.cron:0 30 4 * * *}")
+    public void archive() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            executor.execute(this::runArchive);
+        } catch (RejectedExecutionException e) {
+            log.warn("이전 입찰 보관 작업이 아직 실행 중이라 이번 실행을 건너뜁니다.");
+        }
+    }
+
+    /**
+     * cutoff 이전에 종료된 경매의 입찰을 보관 테이블로 이동, 옮긴 입찰 수 반환
+     */
+    public long archiveEndedBefore(LocalDateTime cutoff) {
+        long start = System.currentTimeMillis();
+        List<Long> itemIds = jdbcTemplate.queryForList(SELECT_ITEMS, Long.class, Timestamp.valueOf(cutoff), maxBatches);
+
+        long moved = 0;
+        int batches = 0;
+        int items = 0;
+        for (Long itemId : itemIds) {
+            int count;
+            do {
+                if (batches >= maxBatches || !pause(batches)) {
+                    log.info("입찰 보관 중단 (다음 실행에서 계속): 경매 {}개, 입찰 {}건, {}ms",
+                            items, moved, System.currentTimeMillis() - start);
+                    return moved;
+                }
+                Integer result = transactionTemplate.execute(status -> moveBatch(itemId));
+                count = result != null ? result : 0;
+                moved += count;
+                batches++;
+            } while (count == batchSize);
+            items++;
+        }
+
+        if (moved > 0) {
+            log.info("입찰 보관: 경매 {}개, 입찰 {}건, {}ms", items, moved, System.currentTimeMillis() - start);
+        }
+        return moved;
+    }
+
+    private void runArchive() {
+        Timer.Sample sample = metrics.start();
+        try {
+            archiveEndedBefore(LocalDateTime.now().minusDays(afterDays));
+        } catch (RuntimeException e) {
+            log.error("입찰 보관 실패", e);
+        } finally {
+            sample.stop(metrics.schedulerRun("bid_archive"));
+        }
+    }
+
+    // 한 경매의 입찰을 id 순으로 batch-size 건 이동 (복사와 삭제는 같은 트랜잭션)
+    private int moveBatch(Long itemId) {
+        List<Long> ids = jdbcTemplate.queryForList(SELECT_BATCH, Long.class, itemId, batchSize);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        // 해당 경매에서 id 순으로 앞쪽 N건이므로 [첫 id, 마지막 id] 범위가 정확히 이 배치
+        Long from = ids.get(0);
+        Long to = ids.get(ids.size() - 1);
+        jdbcTemplate.update(COPY_BATCH, itemId, from, to);
+        return jdbcTemplate.update(DELETE_BATCH, itemId, from, to);
+    }
+
+    // 배치 사이 쉬기 (입찰 처리와 복제에 여유를 줌), 인터럽트되면 false
+    private boolean pause(int batches) {
+        if (batches == 0 || pauseMillis <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(pauseMillis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    // 종료 시 쉬는 중인 작업을 인터럽트 (다음 실행에서 이어서 처리)
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private static List<Bid> merge(List<Bid> hot, List<ArchivedBid> archived) {
+        if (archived.isEmpty()) {
+            return hot;
+        }
+        List<Bid> merged = new ArrayList<>(hot.size() + archived.size());
+        merged.addAll(hot);
+        for (ArchivedBid bid : archived) {
+            merged.add(bid.toBid());
+        }
+        merged.sort(LATEST_FIRST);
+        return merged;
+    }
+}
@@ -0,0 +1,126 @@
+package com.auction.auction.service;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.auction.auction.model.ImageBlob;
+import com.auction.auction.repository.ImageBlobRepository;
+import com.auction.auction.storage.ImageStore;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 내용 주소 기반 이미지의 참조 수 관리
+ * - 물건의 imageUrl 이 설정/변경/삭제될 때 참조 수를 증감
+ * - 참조가 없는 이미지는 유예 시간이 지난 뒤 파일(변형 포함)과 함께 정리
+ *   (업로드 후 물건 등록 전인 이미지도 유예 시간 동안은 유지)
+ * - 정리는 이미지마다 짧은 트랜잭션으로 행을 지우고 커밋 전까지 행 잠금을 유지한 채 파일을 삭제
+ *   같은 내용의 업로드는 파일을 저장하기 전에 등록(register)하므로, 정리 중이면 잠금이 풀린 뒤 새 행을 만들고 파일을 다시 저장
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ImageBlobService {
+
+    private static final String URL_PREFIX = "/uploads/images/";
+
+    private final ImageBlobRepository blobRepository;
+    private final ImageVariantService variantService;
+    private final ImageStore imageStore;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${file.gc.grace-hours:24}")
+    private long graceHours;
+
+    /**
+     * 업로드된 이미지 등록 (이미 있으면 정리 유예 시간만 갱신), 파일을 저장하기 전에 호출
+     * 동시 등록 충돌을 무시할 수 있도록 각 쿼리를 개별 트랜잭션으로 실행
+     * 이미 등록된 이미지였으면 true (정리 중이던 이미지는 정리가 끝난 뒤 새로 등록되어 false)
+     */
+    public boolean register(String hash, String path, long size) {
+        if (blobRepository.touch(hash, LocalDateTime.now()) > 0) {
+            return true;
+        }
+        ImageBlob blob = new ImageBlob();
+        blob.setHash(hash);
+        blob.setPath(path);
+        blob.setSize(size);
+        try {
+            blobRepository.saveAndFlush(blob);
+        } catch (DataIntegrityViolationException e) {
+            log.debug("동시에 업로드된 이미지: {}", hash); // 다른 요청이 먼저 등록함
+        }
+        return false;
+    }
+
+    /**
+     * imageUrl 변경에 따른 참조 수 반영 (같으면 무시, 내용 주소 URL 이 아니면 무시)
+     */
+    @Transactional
+    public void replace(String oldUrl, String newUrl) {
+        if (Objects.equals(oldUrl, newUrl)) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        String newHash = hashOf(newUrl);
+        if (newHash != null) {
+            blobRepository.addReference(newHash, 1, now);
+        }
+        String oldHash = hashOf(oldUrl);
+        if (oldHash != null) {
+            blobRepository.addReference(oldHash, -1, now);
+        }
+    }
+
+    /**
+     * 참조가 없는 이미지 정리 (이미지마다 개별 트랜잭션)
+     */
+    @Scheduled(fixedDelayString = "${file.gc.interval-ms:3600000}")
+    public void collect() {
+        LocalDateTime before = LocalDateTime.now().minusHours(graceHours);
+        int removed = 0;
+        for (ImageBlob blob : blobRepository.findUnreferenced(before)) {
+            if (Boolean.TRUE.equals(transactionTemplate.execute(status -> remove(blob, before)))) {
+                removed++;
+            }
+        }
+        if (removed > 0) {
+            log.info("참조가 없는 이미지 정리: {}개", removed);
+        }
+    }
+
+    // 행을 지우고 (상태가 바뀌었으면 건너뜀) 잠금을 유지한 채 파일 삭제
+    // 파일 삭제에 실패해도 행 삭제는 커밋 (남은 파일은 같은 내용이 다시 업로드되면 덮어씀)
+    private boolean remove(ImageBlob blob, LocalDateTime before) {
+        if (blobRepository.deleteIfUnreferenced(blob.getHash(), before) == 0) {
+            return false;
+        }
+        try {
+            variantService.deleteVariants(blob.getPath());
+            imageStore.delete(blob.getPath());
+        } catch (IOException e) {
+            log.warn("이미지 파일 삭제 실패: {} ({})", blob.getPath(), e.getMessage());
+        }
+        return true;
+    }
+
+    // 내용 주소 URL(/uploads/images/ab/cd/{hash}.ext)에서 해시 추출 (기존 UUID 파일명이면 null)
+    static String hashOf(String imageUrl) {
+        if (imageUrl == null || !imageUrl.startsWith(URL_PREFIX)) {
+            return null;
+        }
+        String filename = imageUrl.substring(imageUrl.lastIndexOf('/') + 1);
+        int dot = filename.lastIndexOf('.');
+        String hash = dot > 0 ? filename.substring(0, dot) : filename;
+        return hash.length() == 64 && hash.chars().allMatch(c -> Character.digit(c, 16) >= 0) ? hash : null;
+    }
+}
@@ -0,0 +1,173 @@
+package com.auction.auction.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.auction.auction.storage.ImageStore;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 이미지 업로드 저장 (내용 주소 방식)
+ * - 요청 본문을 힙에 모으지 않고 다이렉트 버퍼(스레드별 재사용)를 거쳐 임시 파일 채널로 바로 기록한 뒤 저장소(ImageStore)에 넘김
+ * - 확장자 대신 파일 앞부분의 시그니처(매직 바이트)로 형식을 판별
+ * - 기록하는 동안 SHA-256 을 함께 계산하여 {앞 2자리}/{다음 2자리}/{해시}.{확장자} 경로에 저장
+ *   (같은 내용은 같은 경로/URL 이 되므로 한 번만 저장되고 브라우저 캐시도 공유됨)
+ * - 새로 저장된 이미지만 썸네일/목록용 이미지 생성을 작업 스레드에 맡김
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ImageStorageService {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    // 시그니처 판별에 필요한 최소 바이트 수 (WEBP: RIFF....WEBP)
+    private static final int SIGNATURE_LENGTH = 12;
+
+    private static final ThreadLocal<ByteBuffer> BUFFERS =
+            ThreadLocal.withInitial(() -> ByteBuffer.allocateDirect(BUFFER_SIZE));
+
+    private final ImageStore imageStore;
+    private final ImageVariantService variantService;
+    private final ImageBlobService blobService;
+
+    @Value("${file.max-bytes:10485760}")
+    private long maxBytes;
+
+    /**
+     * 스트림을 업로드 디렉토리에 저장하고 업로드 디렉토리 기준 상대 경로 반환
+     * 이미지 시그니처가 아니거나 최대 크기를 넘으면 IllegalArgumentException
+     */
+    public String store(InputStream input) throws IOException {
+        Path temp = imageStore.createTempFile("upload-");
+        try {
+            StoredContent content = write(Channels.newChannel(input), temp);
+
+            String hash = HexFormat.of().formatHex(content.digest());
+            String path = hash.substring(0, 2) + "/" + hash.substring(2, 4) + "/" + hash + content.type().extension();
+
+            // 파일보다 먼저 등록해 정리 대상에서 제외 (정리 중인 이미지면 정리가 끝날 때까지 대기 후 새로 등록)
+            // 이미 등록되어 있던 이미지일 때만 저장소의 기존 파일을 재사용
+            if (blobService.register(hash, path, content.size()) && imageStore.exists(path)) {
+                log.debug("이미 저장된 이미지: {}", path);
+            } else {
+                imageStore.put(path, temp);
+                variantService.generate(path);
+            }
+            return path;
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    // 시그니처를 확인한 뒤 나머지를 그대로 파일에 기록하면서 해시 계산
+    private StoredContent write(ReadableByteChannel in, Path target) throws IOException {
+        ByteBuffer buffer = BUFFERS.get();
+        buffer.clear();
+
+        while (buffer.position() < SIGNATURE_LENGTH && in.read(buffer) >= 0) {
+            // 시그니처 길이만큼 채워질 때까지 읽기
+        }
+        ImageType type = ImageType.detect(buffer);
+        if (type == null) {
+            throw new IllegalArgumentException("이미지 파일만 업로드 가능합니다. (jpg, jpeg, png, gif, webp)");
+        }
+
+        MessageDigest digest = sha256();
+        long written = 0;
+        try (FileChannel out = FileChannel.open(target, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            do {
+                buffer.flip();
+                written += buffer.remaining();
+                if (written > maxBytes) {
+                    throw new IllegalArgumentException("파일 크기는 " + (maxBytes / (1024 * 1024)) + "MB를 넘을 수 없습니다.");
+                }
+                digest.update(buffer.duplicate());
+                while (buffer.hasRemaining()) {
+                    out.write(buffer);
+                }
+                buffer.clear();
+            } while (in.read(buffer) >= 0);
+        }
+
+        log.debug("이미지 기록: {} ({}, {} bytes)", target.getFileName(), type, written);
+        return new StoredContent(type, digest.digest(), written);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    record StoredContent(ImageType type, byte[] digest, long size) {
+    }
+
+    /**
+     * 허용하는 이미지 형식과 시그니처
+     */
+    enum ImageType {
+        JPEG(".jpg"),
+        PNG(".png"),
+        GIF(".gif"),
+        WEBP(".webp");
+
+        private final String extension;
+
+        ImageType(String extension) {
+            this.extension = extension;
+        }
+
+        String extension() {
+            return extension;
+        }
+
+        // buffer 의 0 ~ position 범위에서 시그니처 확인 (위치는 바꾸지 않음)
+        static ImageType detect(ByteBuffer buffer) {
+            int length = buffer.position();
+            if (length >= 3 && at(buffer, 0) == 0xFF && at(buffer, 1) == 0xD8 && at(buffer, 2) == 0xFF) {
+                return JPEG;
+            }
+            if (length >= 8 && matches(buffer, 0, 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A)) {
+                return PNG;
+            }
+            if (length >= 6 && (matches(buffer, 0, 'G', 'I', 'F', '8', '7', 'a') || matches(buffer, 0, 'G', 'I', 'F', '8', '9', 'a'))) {
+                return GIF;
+            }
+            if (length >= 12 && matches(buffer, 0, 'R', 'I', 'F', 'F') && matches(buffer, 8, 'W', 'E', 'B', 'P')) {
+                return WEBP;
+            }
+            return null;
+        }
+
+        private static boolean matches(ByteBuffer buffer, int offset, int... expected) {
+            for (int i = 0; i < expected.length; i++) {
+                if (at(buffer, offset + i) != expected[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static int at(ByteBuffer buffer, int index) {
+            return buffer.get(index) & 0xFF;
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package com.auction.auction.service;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.imageio.ImageIO;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.auction.auction.storage.ImageStore;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 업로드 이미지의 크기별 변형 (썸네일 / 목록용) 생성
+ * - 제한된 크기의 작업 스레드 풀에서 비동기로 생성 (대기열이 가득 차면 생성을 건너뛰고 원본을 사용)
+ * - 변형 파일은 원본 key 에 접미사를 붙여 같은 저장소에 저장: {이름}_thumb.jpg, {이름}_list.jpg
+ *   (원본이 내용 주소로 저장되므로 같은 이미지의 변형도 한 번만 생성)
+ * - ImageIO 에 WebP 인코더가 등록되어 있으면 같은 이름의 .webp 도 함께 생성
+ * - 변형이 준비되었는지는 메모리에 기억해 화면을 그릴 때마다 저장소(S3 HEAD)를 확인하지 않음
+ *   준비된 변형은 계속 기억하고, 없던 변형은 file.variant.missing-ttl-ms 동안만 없는 것으로 간주
+ *   (다른 인스턴스가 만든 변형도 그 시간 안에 반영), 변형 생성이 끝나면 물건 목록 ETag 순번 증가
+ */
+@Service
+@Slf4j
+public class ImageVariantService {
+
+    private static final String URL_PREFIX = "/uploads/images/";
+
+    private final ThreadPoolExecutor executor;
+    private final boolean webpSupported = ImageIO.getImageWritersByFormatName("webp").hasNext();
+
+    private final ImageStore imageStore;
+    private final ItemChangeSequence changeSequence;
+    private final long missingTtlNanos;
+
+    // 저장소에 있는 것으로 확인된 변형 key
+    private final Set<String> readyKeys = ConcurrentHashMap.newKeySet();
+
+    // 없는 것으로 확인된 변형 key -> 다시 확인할 시각 (System.nanoTime 기준)
+    private final Map<String, Long> missingUntil = new ConcurrentHashMap<>();
+
+    public ImageVariantService(
+            ImageStore imageStore,
+            ItemChangeSequence changeSequence,
+            @Value("${file.variant.workers:2}") int workers,
+            @Value("${file.variant.queue-capacity:100}") int queueCapacity,
+            @Value("${file.variant.missing-ttl-ms:30000}") long missingTtlMillis) {
+        this.imageStore = imageStore;
+        this.changeSequence = changeSequence;
+        this.missingTtlNanos = TimeUnit.MILLISECONDS.toNanos(missingTtlMillis);
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "image-variant-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    /**
+     * 이미지 변형 크기
+     */
+    public enum Variant {
+        THUMBNAIL("_thumb", 200),
+        LIST("_list", 480);
+
+        private final String suffix;
+        private final int width;
+
+        Variant(String suffix, int width) {
+            this.suffix = suffix;
+            this.width = width;
+        }
+    }
+
+    /**
+     * 원본 이미지의 변형 생성 요청 (비동기, key 는 저장소 기준 상대 경로)
+     */
+    public void generate(String key) {
+        try {
+            executor.execute(() -> createVariants(key));
+        } catch (RejectedExecutionException e) {
+            log.warn("이미지 변형 작업 대기열이 가득 차 생성을 건너뜁니다: {}", key);
+        }
+    }
+
+    /**
+     * 원본 URL 에 대한 변형 URL (아직 생성되지 않았거나 없으면 원본 URL)
+     */
+    public String variantUrl(String imageUrl, Variant variant) {
+        if (imageUrl == null || !imageUrl.startsWith(URL_PREFIX)) {
+            return imageUrl;
+        }
+        String key = variantName(imageUrl.substring(URL_PREFIX.length()), variant, ".jpg");
+        return isReady(key) ? URL_PREFIX + key : imageUrl;
+    }
+
+    /**
+     * 목록 화면용 URL (템플릿에서 사용)
+     */
+    public String listUrl(String imageUrl) {
+        return variantUrl(imageUrl, Variant.LIST);
+    }
+
+    /**
+     * 원본의 변형 파일 삭제
+     */
+    public void deleteVariants(String key) throws IOException {
+        for (Variant variant : Variant.values()) {
+            String jpg = variantName(key, variant, ".jpg");
+            readyKeys.remove(jpg);
+            missingUntil.remove(jpg);
+            imageStore.delete(jpg);
+            imageStore.delete(variantName(key, variant, ".webp"));
+        }
+    }
+
+    // 준비된 변형인지 (확인 결과를 기억해 저장소 조회를 줄임)
+    private boolean isReady(String key) {
+        if (readyKeys.contains(key)) {
+            return true;
+        }
+        Long until = missingUntil.get(key);
+        long now = System.nanoTime();
+        if (until != null && now - until < 0) {
+            return false;
+        }
+        if (imageStore.exists(key)) {
+            readyKeys.add(key);
+            missingUntil.remove(key);
+            return true;
+        }
+        missingUntil.put(key, now + missingTtlNanos);
+        return false;
+    }
+
+    private void createVariants(String key) {
+        try {
+            Path original = imageStore.localFile(key);
+            BufferedImage source = original == null ? null : ImageIO.read(original.toFile());
+            if (source == null) {
+                log.debug("변형을 만들 수 없는 형식입니다: {}", key);
+                return;
+            }
+            for (Variant variant : Variant.values()) {
+                BufferedImage resized = resize(source, variant.width);
+                String jpg = variantName(key, variant, ".jpg");
+                write(resized, "jpg", jpg);
+                if (webpSupported) {
+                    write(resized, "webp", variantName(key, variant, ".webp"));
+                }
+                readyKeys.add(jpg);
+                missingUntil.remove(jpg);
+            }
+            // 원본 URL 로 캐시된 목록이 변형 URL 로 다시 그려지도록
+            changeSequence.bumpAfterCommit();
+        } catch (IOException | RuntimeException e) {
+            log.warn("이미지 변형 생성 실패: {} ({})", key, e.getMessage());
+        }
+    }
+
+    // 임시 파일에 쓴 뒤 저장소에 넘김 (작성 중인 파일이 제공되지 않도록)
+    private void write(BufferedImage image, String format, String key) throws IOException {
+        Path temp = imageStore.createTempFile("variant-");
+        try {
+            ImageIO.write(image, format, temp.toFile());
+            imageStore.put(key, temp);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    // 비율을 유지하며 축소 (원본이 더 작으면 크기 유지), 투명 영역은 흰색 배경으로 채움
+    private static BufferedImage resize(BufferedImage source, int maxWidth) {
+        int width = Math.min(maxWidth, source.getWidth());
+        int height = Math.max(1, (int) ((long) source.getHeight() * width / source.getWidth()));
+
+        BufferedImage resized = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = resized.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, width, height);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return resized;
+    }
+
+    private static String variantName(String filename, Variant variant, String extension) {
+        int dot = filename.lastIndexOf('.');
+        String base = dot > 0 ? filename.substring(0, dot) : filename;
+        return base + variant.suffix + extension;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
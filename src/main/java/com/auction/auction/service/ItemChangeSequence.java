@@ -0,0 +1,60 @@
+package com.auction.auction.service;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 물건 목록 변경 순번 (물건 목록 API 의 ETag)
+ * - 물건 등록/수정/삭제, 상태 전환, 입찰, 참여/나가기가 커밋될 때마다 1 증가
+ * - 목록을 조회하기 전에 순번만으로 If-None-Match 를 비교하므로, 바뀌지 않은 목록의 반복 조회는 DB 조회 없이 304
+ * - 메모리 값이라 재시작하면 다시 세지만 시작 시각을 ETag 에 넣어 이전 프로세스의 ETag 와 겹치지 않음
+ * - 검색 색인, 마감 추적과 같이 단일 인스턴스 기준
+ * 읽기 전용 DB 를 쓰면 커밋 직후 복제본에는 아직 이전 목록이 있을 수 있으므로,
+ * 마지막 변경 후 auction.etag.settle-ms 동안은 ETag 를 주지 않음 (이전 목록이 새 ETag 로 캐시되지 않도록)
+ */
+@Component
+public class ItemChangeSequence {
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLong sequence = new AtomicLong();
+    private volatile long lastChangeNanos = System.nanoTime();
+
+    @Value("${auction.etag.settle-ms:0}")
+    private long settleMillis;
+
+    /**
+     * 현재 트랜잭션이 커밋되면 순번 증가 (트랜잭션 밖이면 바로 증가)
+     * 커밋 전에 올리면 커밋 전 목록이 새 ETag 로 캐시될 수 있음
+     */
+    public void bumpAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            bump();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                bump();
+            }
+        });
+    }
+
+    /**
+     * 현재 목록의 ETag 값, 변경 직후(settle-ms 이내)면 null
+     */
+    public String tag() {
+        if (settleMillis > 0 && System.nanoTime() - lastChangeNanos < settleMillis * 1_000_000L) {
+            return null;
+        }
+        return epoch + "-" + sequence.get();
+    }
+
+    private void bump() {
+        lastChangeNanos = System.nanoTime();
+        sequence.incrementAndGet();
+    }
+}
@@ -1,15 +1,22 @@
 package com.auction.auction.service;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.auction.auction.datasource.ReplicaLagGuard;
 import com.auction.auction.model.Item;
 import com.auction.auction.model.Item.ItemStatus;
 import com.auction.auction.model.User;
 import com.auction.auction.repository.ItemRepository;
 import com.auction.auction.repository.UserRepository;
+import com.auction.auction.search.ItemSearchIndex;
 
 import lombok.RequiredArgsConstructor;
 
@@ -20,6 +27,10 @@ public class ItemService {
 
     private final ItemRepository itemRepository;
     private final UserRepository userRepository;
+    private final ImageBlobService imageBlobService;
+    private final ItemSearchIndex searchIndex;
+    private final ReplicaLagGuard replicaLagGuard;
+    private final ItemChangeSequence changeSequence;
 
     // 물건 등록
     @Transactional
@@ -28,7 +39,13 @@ public class ItemService {
             .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
 
         item.setSeller(seller);
-        return itemRepository.save(item);
+        imageBlobService.replace(null, item.getImageUrl());
+        Item saved = itemRepository.save(item);
+        searchIndex.index(saved);
+        changeSequence.bumpAfterCommit();
+        // 등록/수정 직후 상세 화면은 주 DB 에서 조회
+        replicaLagGuard.pinAfterCommit(username);
+        return saved;
     }
 
     // 전체 목록 조회 (DELETED 제외)
@@ -45,12 +62,40 @@ public class ItemService {
                 .toList();
     }
 
+    // 검색 (제목/설명, 상태와 현재가 범위로 필터, 관련도순 상위 limit 개)
+    public List<Item> searchItems(String query, Set<ItemStatus> statuses, Long minPrice, Long maxPrice, int limit) {
+        List<Long> ids = searchIndex.search(query, statuses, minPrice, maxPrice, limit);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        // 색인 순위 유지
+        Map<Long, Item> found = new HashMap<>();
+        for (Item item : itemRepository.findAllById(ids)) {
+            found.put(item.getId(), item);
+        }
+        List<Item> result = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            Item item = found.get(id);
+            if (item != null) {
+                result.add(item);
+            }
+        }
+        return result;
+    }
+
     // 상세 조회
     public Item getItem(Long id) {
         return itemRepository.findById(id)
             .orElseThrow(() -> new IllegalArgumentException("경매 물건을 찾을 수 없습니다."));
     }
 
+    // 상세 조회 ETag 값 (물건 버전 + 참여자 수, 엔티티를 읽기 전에 변경 여부 확인), 없는 물건이면 빈 값
+    public Optional<String> getItemTag(Long id) {
+        return itemRepository.findVersionById(id)
+            .map(version -> id + "-" + version.version() + "-" + version.participantCount());
+    }
+
     // 내가 등록한 물건 조회
     public List<Item> getMyItems(String username) {
         User user = userRepository.findByUsername(username)
@@ -77,10 +122,16 @@ public class ItemService {
         item.setEndTime(updatedItem.getEndTime());
 
         if (updatedItem.getImageUrl() != null) {
+            imageBlobService.replace(item.getImageUrl(), updatedItem.getImageUrl());
             item.setImageUrl(updatedItem.getImageUrl());
         }
 
-        return itemRepository.save(item);
+        Item saved = itemRepository.save(item);
+        searchIndex.index(saved);
+        changeSequence.bumpAfterCommit();
+        // 등록/수정 직후 상세 화면은 주 DB 에서 조회
+        replicaLagGuard.pinAfterCommit(username);
+        return saved;
     }
 
     // 물건 삭제 (상태 변경)
@@ -94,8 +145,14 @@ public class ItemService {
             throw new IllegalArgumentException("본인이 등록한 물건만 삭제할 수 있습니다.");
         }
 
-        // 상태를 DELETED로 변경
+        // 상태를 DELETED로 변경 (이미지 참조도 해제)
+        if (item.getStatus() != ItemStatus.DELETED) {
+            imageBlobService.replace(item.getImageUrl(), null);
+        }
         item.setStatus(ItemStatus.DELETED);
         itemRepository.save(item);
+        searchIndex.index(item);
+        changeSequence.bumpAfterCommit();
+        replicaLagGuard.pinAfterCommit(username);
     }
 }
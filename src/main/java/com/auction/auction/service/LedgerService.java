@@ -0,0 +1,182 @@
+package com.auction.auction.service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.auction.auction.model.BalanceSnapshot;
+import com.auction.auction.model.LedgerEntry;
+import com.auction.auction.model.LedgerEntry.EntryType;
+import com.auction.auction.model.LedgerEntry.LedgerAccount;
+import com.auction.auction.model.User;
+import com.auction.auction.repository.BalanceSnapshotRepository;
+import com.auction.auction.repository.LedgerEntryRepository;
+import com.auction.auction.repository.UserRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 잔액 원장 (복식부기, 추가 전용)
+ * - 잔액 변경은 users 행을 수정하지 않고 호출한 트랜잭션 안에서 원장 항목을 INSERT (커밋과 함께 확정)
+ * - 현재 잔액 = 최신 스냅샷 + 이후 항목 합계 (트랜잭션 안에서는 한 번 조회한 잔액을 재사용)
+ * - 스냅샷은 주기적으로 생성되어 tail 합계 범위를 작게 유지
+ * - 원장 항목 ID 는 커밋이 아니라 INSERT 시점에 정해지므로, 스냅샷은 snapshot-lag-ms 보다 오래된 항목까지만 반영
+ *   (그보다 작은 ID 를 가진 항목의 트랜잭션은 이미 끝났으므로 스냅샷 이후 커밋되어 누락되는 항목이 없음)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class LedgerService {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO ledger_entries (posting_id, account, user_id, item_id, amount, entry_type, created_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private final LedgerEntryRepository entryRepository;
+    private final BalanceSnapshotRepository snapshotRepository;
+    private final UserRepository userRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    // 트랜잭션에 묶어 두는 잔액 캐시의 리소스 키
+    private final Object balancesKey = new Object();
+
+    // 스냅샷에 반영하지 않는 최근 구간 (가장 긴 트랜잭션 제한 시간보다 길어야 함)
+    @Value("${auction.ledger.snapshot-lag-ms:120000}")
+    private long snapshotLagMillis;
+
+    /**
+     * 현재 잔액
+     * 트랜잭션 안에서는 조회한 잔액을 커밋까지 재사용 (자동 입찰 연쇄처럼 같은 사용자를 여러 번 확인하는 경우)
+     */
+    public long balanceOf(Long userId) {
+        Map<Long, Long> balances = transactionBalances();
+        return balances == null ? loadBalance(userId) : balances.computeIfAbsent(userId, this::loadBalance);
+    }
+
+    /**
+     * 충전 / 인출 (amount 가 음수면 인출)
+     */
+    public void postFunding(Long userId, long amount) {
+        if (amount == 0) {
+            return;
+        }
+        EntryType type = amount > 0 ? EntryType.DEPOSIT : EntryType.WITHDRAWAL;
+        post(userId, null, amount, LedgerAccount.EXTERNAL_FUNDING, type);
+    }
+
+    /**
+     * 낙찰 대금 차감
+     */
+    public void postSettlement(Long userId, Long itemId, long price) {
+        post(userId, itemId, -price, LedgerAccount.AUCTION_CLEARING, EntryType.SETTLEMENT);
+    }
+
+    /**
+     * 잔액 스냅샷 생성
+     * 직전 작업 이후 추가된 항목이 있는 사용자만 새 스냅샷을 남김
+     */
+    @Scheduled(fixedDelayString = "${auction.ledger.snapshot-ms:300000}")
+    @Transactional
+    public void snapshot() {
+        snapshotBefore(LocalDateTime.now().minusNanos(snapshotLagMillis * 1_000_000L));
+    }
+
+    /**
+     * horizon 이전에 기록된 마지막 원장 항목까지 스냅샷 생성
+     * horizon 은 아직 커밋되지 않은 트랜잭션이 남아 있을 수 없는 시각이어야 함
+     */
+    @Transactional
+    public void snapshotBefore(LocalDateTime horizon) {
+        long after = snapshotRepository.findHighWaterMark();
+        long upTo = entryRepository.findTopByCreatedAtLessThanEqualOrderByIdDesc(horizon)
+                .map(LedgerEntry::getId)
+                .orElse(0L);
+        if (upTo <= after) {
+            return;
+        }
+
+        List<BalanceSnapshot> snapshots = new ArrayList<>();
+        for (Object[] row : entryRepository.sumWalletByUserBetween(after, upTo)) {
+            Long userId = (Long) row[0];
+            long delta = ((Number) row[1]).longValue();
+
+            BalanceSnapshot snapshot = new BalanceSnapshot();
+            snapshot.setUserId(userId);
+            snapshot.setBalance(openingBalance(userId) + delta);
+            snapshot.setLastEntryId(upTo);
+            snapshots.add(snapshot);
+        }
+        snapshotRepository.saveAll(snapshots);
+        log.info("잔액 스냅샷 생성: {}명, 마지막 원장 항목 ID = {}", snapshots.size(), upTo);
+    }
+
+    /**
+     * 정합성 점검: 합계가 0이 아닌 거래 ID 목록
+     */
+    @Transactional(readOnly = true)
+    public List<String> findUnbalancedPostings() {
+        return entryRepository.findUnbalancedPostings();
+    }
+
+    // 사용자 계좌와 상대 계정에 같은 금액을 반대 부호로 기록
+    private void post(Long userId, Long itemId, long amount, LedgerAccount counterAccount, EntryType type) {
+        String postingId = UUID.randomUUID().toString();
+        Timestamp createdAt = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, List.of(
+                new Object[] { postingId, LedgerAccount.USER_WALLET.name(), userId, itemId, amount, type.name(), createdAt },
+                new Object[] { postingId, counterAccount.name(), null, itemId, -amount, type.name(), createdAt }));
+
+        // 이 트랜잭션에서 이미 조회한 잔액이면 방금 기록한 금액 반영
+        Map<Long, Long> balances = transactionBalances();
+        if (balances != null) {
+            balances.computeIfPresent(userId, (id, balance) -> balance + amount);
+        }
+    }
+
+    // 현재 트랜잭션의 잔액 캐시 (트랜잭션 밖이면 null, 트랜잭션이 끝나면 함께 해제)
+    @SuppressWarnings("unchecked")
+    private Map<Long, Long> transactionBalances() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return null;
+        }
+        Map<Long, Long> balances = (Map<Long, Long>) TransactionSynchronizationManager.getResource(balancesKey);
+        if (balances == null) {
+            balances = new HashMap<>();
+            TransactionSynchronizationManager.bindResource(balancesKey, balances);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(balancesKey);
+                }
+            });
+        }
+        return balances;
+    }
+
+    // 최신 스냅샷 + tail 합계
+    private long loadBalance(Long userId) {
+        return snapshotRepository.findTopByUserIdOrderByIdDesc(userId)
+                .map(snapshot -> snapshot.getBalance() + entryRepository.sumWalletAfter(userId, snapshot.getLastEntryId()))
+                .orElseGet(() -> openingBalance(userId) + entryRepository.sumWalletAfter(userId, 0L));
+    }
+
+    // 가장 최근 스냅샷 잔액 (없으면 원장 도입 이전의 users.balance)
+    private long openingBalance(Long userId) {
+        return snapshotRepository.findTopByUserIdOrderByIdDesc(userId)
+                .map(BalanceSnapshot::getBalance)
+                .orElseGet(() -> userRepository.findById(userId).map(User::getBalance).orElse(0L));
+    }
+}
@@ -0,0 +1,181 @@
+package com.auction.auction.service;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.auction.auction.dto.PriceRecommendation;
+import com.auction.auction.model.Item;
+import com.auction.auction.model.Item.ItemStatus;
+import com.auction.auction.repository.ItemRepository;
+import com.auction.auction.search.InvertedIndex;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 우리 서비스의 낙찰 내역 기반 가격 추정
+ * - 낙찰된 경매(AUCTION_ENDED / SOLD, 낙찰자 있음)의 제목/설명으로 메모리 역색인을 유지 (경매 종료 시 증분 추가)
+ * - 질의와 유사한 상위 k개 낙찰가로 절사 평균과 백분위수를 계산 (이상치에 강한 통계)
+ * - 유사 내역이 부족하면 외부 시세 기반 가격 추천 서버로 대체 (price.estimation.fallback)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PriceEstimationService {
+
+    private final ItemRepository itemRepository;
+    private final PriceRecommendationService remoteRecommendationService;
+
+    // 낙찰된 물건의 제목/설명 역색인
+    private final InvertedIndex index = new InvertedIndex();
+
+    // 물건 ID -> 낙찰가
+    private final Map<Long, Long> prices = new ConcurrentHashMap<>();
+
+    @Value("${price.estimation.top-k:20}")
+    private int topK;
+
+    @Value("${price.estimation.min-samples:3}")
+    private int minSamples;
+
+    // 최고 점수 대비 이 비율 미만인 물건은 유사하지 않은 것으로 보고 제외
+    @Value("${price.estimation.min-score-ratio:0.3}")
+    private double minScoreRatio;
+
+    @Value("${price.estimation.trim-ratio:0.1}")
+    private double trimRatio;
+
+    @Value("${price.estimation.fallback:true}")
+    private boolean fallback;
+
+    /**
+     * 가격 추천 (낙찰 내역 우선, 부족하면 외부 시세)
+     */
+    public PriceRecommendation recommend(String title, String description) {
+        PriceRecommendation estimate = estimate(title, description);
+        if (estimate != null) {
+            return estimate;
+        }
+        if (!fallback) {
+            throw new IllegalStateException("유사한 물건의 낙찰 내역이 부족합니다.");
+        }
+        return remoteRecommendationService.recommend(title, description);
+    }
+
+    /**
+     * 낙찰 내역 기반 추정 (유사한 낙찰 내역이 min-samples 미만이면 null)
+     */
+    public PriceRecommendation estimate(String title, String description) {
+        Map<String, Float> query = InvertedIndex.weights(title, description);
+        if (query.isEmpty() || prices.isEmpty()) {
+            return null;
+        }
+
+        // 질의 토큰의 역색인만 읽어 점수 계산 후 상위 k개 (최고 점수 대비 min-score-ratio 미만은 제외)
+        Map<Long, Float> scores = index.score(query);
+        List<Long> ranked = InvertedIndex.top(scores, topK, prices::containsKey);
+        if (ranked.size() < minSamples) {
+            return null;
+        }
+        float threshold = (float) (scores.get(ranked.get(0)) * minScoreRatio);
+        long[] similar = ranked.stream()
+                .filter(itemId -> scores.get(itemId) >= threshold)
+                .map(prices::get)
+                .filter(Objects::nonNull)
+                .mapToLong(Long::longValue)
+                .sorted()
+                .toArray();
+        if (similar.length < minSamples) {
+            return null;
+        }
+
+        long median = round(percentile(similar, 0.5));
+
+        PriceRecommendation result = new PriceRecommendation();
+        result.setRecommendedPrice(median);
+        result.setAveragePrice(round(trimmedMean(similar, trimRatio)));
+        result.setMinPrice(round(percentile(similar, 0.1)));
+        result.setMaxPrice(round(percentile(similar, 0.9)));
+        result.setCount(similar.length);
+        result.setMessage("최근 낙찰된 유사 물품 " + similar.length + "개의 낙찰가를 분석했습니다. (중앙값 기준, 상하위 10% 범위)");
+        result.setSource("history");
+        return result;
+    }
+
+    /**
+     * 경매 종료 시 낙찰 내역 추가 (트랜잭션 커밋 후 반영)
+     */
+    public void onAuctionClosed(Item item) {
+        if (item.getWinnerId() == null) {
+            return;
+        }
+        Long itemId = item.getId();
+        String title = item.getTitle();
+        String description = item.getDescription();
+        long price = item.getCurrentPrice();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    add(itemId, title, description, price);
+                }
+            });
+        } else {
+            add(itemId, title, description, price);
+        }
+    }
+
+    /**
+     * 시작 시 낙찰 내역으로 역색인 구축
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void load() {
+        List<Item> sold = itemRepository.findByStatusInAndWinnerIdIsNotNull(EnumSet.of(ItemStatus.AUCTION_ENDED, ItemStatus.SOLD));
+        for (Item item : sold) {
+            add(item.getId(), item.getTitle(), item.getDescription(), item.getCurrentPrice());
+        }
+        log.info("가격 추정 색인 구축: 낙찰 내역 {}건, 토큰 {}개", index.size(), index.termCount());
+    }
+
+    private void add(Long itemId, String title, String description, long price) {
+        index.put(itemId, InvertedIndex.weights(title, description));
+        prices.put(itemId, price);
+    }
+
+    // 정렬된 값의 백분위수 (선형 보간)
+    static double percentile(long[] sorted, double p) {
+        if (sorted.length == 1) {
+            return sorted[0];
+        }
+        double position = p * (sorted.length - 1);
+        int lower = (int) Math.floor(position);
+        int upper = Math.min(lower + 1, sorted.length - 1);
+        return sorted[lower] + (sorted[upper] - sorted[lower]) * (position - lower);
+    }
+
+    // 정렬된 값의 절사 평균 (양쪽에서 ratio 만큼 제외)
+    static double trimmedMean(long[] sorted, double ratio) {
+        int trim = (int) Math.floor(sorted.length * ratio);
+        long[] kept = Arrays.copyOfRange(sorted, trim, sorted.length - trim);
+        return Arrays.stream(kept).average().orElse(0);
+    }
+
+    // 100원 단위 반올림
+    private static long round(double price) {
+        return Math.round(price / 100.0) * 100;
+    }
+}
@@ -0,0 +1,226 @@
+package com.auction.auction.service;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestClient;
+
+import com.auction.auction.dto.PriceRecommendation;
+import com.auction.auction.util.CircuitBreaker;
+
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 가격 추천 서버(price-recommender) 호출
+ * - 연결을 재사용하는 HTTP 클라이언트와 연결/응답 시간 제한
+ * - 정규화한 제목을 키로 결과를 TTL 동안 캐시, 같은 제목의 동시 요청은 한 번만 호출
+ * - 연속 실패 시 서킷 브레이커가 일정 시간 호출을 차단
+ * - 요청 스레드는 wait-ms 까지만 기다리고, 늦어지는 호출은 백그라운드에서 끝까지 진행해 캐시에 반영
+ */
+@Service
+@Slf4j
+public class PriceRecommendationService {
+
+    private final RestClient restClient;
+    private final CircuitBreaker circuitBreaker;
+    private final ThreadPoolExecutor executor;
+
+    // 정규화된 제목 -> 캐시된 결과
+    private final Map<String, CachedRecommendation> cache = new ConcurrentHashMap<>();
+
+    // 정규화된 제목 -> 진행 중인 호출
+    private final Map<String, CompletableFuture<PriceRecommendation>> inflight = new ConcurrentHashMap<>();
+
+    @Value("${price.recommender.cache-ttl-ms:600000}")
+    private long cacheTtlMs;
+
+    @Value("${price.recommender.cache-max-entries:10000}")
+    private int cacheMaxEntries;
+
+    @Value("${price.recommender.wait-ms:3000}")
+    private long waitMs;
+
+    public PriceRecommendationService(
+            @Value("${price.recommender.url:http://localhost:5000}") String baseUrl,
+            @Value("${price.recommender.connect-timeout-ms:1000}") long connectTimeoutMs,
+            @Value("${price.recommender.read-timeout-ms:15000}") long readTimeoutMs,
+            @Value("${price.recommender.circuit.failure-threshold:5}") int failureThreshold,
+            @Value("${price.recommender.circuit.open-ms:30000}") long openMs,
+            @Value("${price.recommender.max-concurrent:4}") int maxConcurrent) {
+
+        HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .version(HttpClient.Version.HTTP_1_1)
+                .build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(Duration.ofMillis(readTimeoutMs));
+
+        this.restClient = RestClient.builder()
+                .baseUrl(baseUrl)
+                .requestFactory(requestFactory)
+                .build();
+        this.circuitBreaker = new CircuitBreaker(failureThreshold, openMs);
+
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(maxConcurrent, maxConcurrent, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(maxConcurrent * 16), runnable -> {
+                    Thread thread = new Thread(runnable, "price-recommender-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    /**
+     * 가격 추천
+     * 추천 서버가 차단 중이거나 wait-ms 안에 응답하지 않으면 IllegalStateException
+     */
+    public PriceRecommendation recommend(String title, String description) {
+        String key = normalize(title);
+        if (key.isEmpty()) {
+            throw new IllegalArgumentException("제목을 입력해주세요.");
+        }
+
+        CachedRecommendation cached = cache.get(key);
+        if (cached != null && cached.expiresAt() > System.currentTimeMillis()) {
+            return cached.value();
+        }
+
+        CompletableFuture<PriceRecommendation> call = new CompletableFuture<>();
+        CompletableFuture<PriceRecommendation> existing = inflight.putIfAbsent(key, call);
+        if (existing != null) {
+            call = existing; // 같은 제목으로 진행 중인 호출 결과를 함께 기다림
+        } else {
+            start(key, title, description, call);
+        }
+
+        try {
+            return call.get(waitMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("가격을 분석하는 중입니다. 잠시 후 다시 시도해주세요.");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IllegalStateException illegalState) {
+                throw illegalState;
+            }
+            throw new IllegalStateException("가격 추천 서버 호출에 실패했습니다.", cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("가격 추천이 중단되었습니다.");
+        }
+    }
+
+    /**
+     * 만료된 캐시 정리
+     */
+    @Scheduled(fixedDelayString = "${price.recommender.cache-cleanup-ms:60000}")
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        cache.values().removeIf(entry -> entry.expiresAt() <= now);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    // 추천 서버 호출 시작 (완료되면 캐시에 먼저 반영한 뒤 진행 중 목록에서 제거)
+    private void start(String key, String title, String description, CompletableFuture<PriceRecommendation> call) {
+        if (!circuitBreaker.tryAcquire()) {
+            inflight.remove(key, call);
+            call.completeExceptionally(
+                    new IllegalStateException("가격 추천 서버를 일시적으로 사용할 수 없습니다. 잠시 후 다시 시도해주세요."));
+            return;
+        }
+
+        try {
+            executor.execute(() -> {
+                try {
+                    PriceRecommendation result = fetch(title, description);
+                    circuitBreaker.onSuccess();
+                    put(key, result);
+                    call.complete(result);
+                } catch (RuntimeException e) {
+                    circuitBreaker.onFailure();
+                    log.warn("가격 추천 서버 호출 실패: title = {} ({}, circuit = {})",
+                            title, e.getMessage(), circuitBreaker.state());
+                    call.completeExceptionally(e);
+                } finally {
+                    inflight.remove(key, call);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            inflight.remove(key, call);
+            call.completeExceptionally(new IllegalStateException("가격 추천 요청이 많습니다. 잠시 후 다시 시도해주세요."));
+        }
+    }
+
+    private PriceRecommendation fetch(String title, String description) {
+        RecommenderResponse response = restClient.post()
+                .uri("/api/recommend-price")
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(Map.of("title", title, "description", description == null ? "" : description))
+                .retrieve()
+                .body(RecommenderResponse.class);
+
+        if (response == null || !response.isSuccess() || response.getData() == null) {
+            throw new IllegalStateException(response != null && response.getError() != null
+                    ? response.getError() : "가격 추천에 실패했습니다.");
+        }
+        response.getData().setSource("market");
+        return response.getData();
+    }
+
+    private void put(String key, PriceRecommendation value) {
+        if (cache.size() >= cacheMaxEntries) {
+            evictExpired();
+            // 그래도 가득 차 있으면 임의의 항목 하나를 밀어냄
+            Iterator<String> keys = cache.keySet().iterator();
+            if (cache.size() >= cacheMaxEntries && keys.hasNext()) {
+                cache.remove(keys.next());
+            }
+        }
+        cache.put(key, new CachedRecommendation(value, System.currentTimeMillis() + cacheTtlMs));
+    }
+
+    // 캐시 키: 소문자, 특수문자 제거, 연속 공백 정리 ("아이폰 13  Pro!" -> "아이폰 13 pro")
+    static String normalize(String title) {
+        if (title == null) {
+            return "";
+        }
+        return title.toLowerCase(Locale.ROOT)
+                .replaceAll("[^\\p{L}\\p{N}]+", " ")
+                .trim();
+    }
+
+    record CachedRecommendation(PriceRecommendation value, long expiresAt) {
+    }
+
+    // 추천 서버 응답 형식
+    @Getter
+    @Setter
+    static class RecommenderResponse {
+        private boolean success;
+        private PriceRecommendation data;
+        private String error;
+    }
+}
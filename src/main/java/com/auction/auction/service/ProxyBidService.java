@@ -0,0 +1,254 @@
+package com.auction.auction.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.auction.auction.model.Bid;
+import com.auction.auction.model.Item;
+import com.auction.auction.model.Item.ItemStatus;
+import com.auction.auction.model.User;
+import com.auction.auction.repository.AuctionParticipantRepository;
+import com.auction.auction.repository.BidRepository;
+import com.auction.auction.repository.ItemRepository;
+import com.auction.auction.repository.UserRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 자동 입찰 (최대 입찰가) 엔진
+ * - 참여자가 등록한 최대 입찰가는 메모리에만 보관 (다른 사용자에게 공개되지 않음)
+ * - 경쟁하는 자동 입찰은 한 번에 정산 (2등 최대가 + 최소 증가폭)
+ * - 정산 결과로 보이는 입찰만 DB에 저장
+ * - 같은 물건의 입찰과 자동 입찰 등록은 물건 행 잠금(PESSIMISTIC_WRITE)으로 커밋까지 직렬화되므로
+ *   정산은 항상 앞 트랜잭션이 커밋한 현재가와 선두를 기준으로 함 (장부의 synchronized 는 메모리 가시성용)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ProxyBidService {
+
+    private final AuctionService auctionService;
+    private final ItemRepository itemRepository;
+    private final BidRepository bidRepository;
+    private final UserRepository userRepository;
+    private final AuctionParticipantRepository participantRepository;
+    private final BalanceHoldService holdService;
+    private final LedgerService ledgerService;
+
+    // 경매별 자동 입찰 장부 (itemId -> 장부)
+    private final Map<Long, ProxyBook> books = new ConcurrentHashMap<>();
+
+    @Value("${auction.proxy.increment:1000}")
+    private long increment;
+
+    /**
+     * 자동 입찰 등록 (최대 입찰가)
+     * 등록 즉시 경쟁 중인 자동 입찰과 정산하고, 저장된 입찰 목록을 순서대로 반환
+     * 업무 규칙 위반은 예외 대신 거절 사유로 반환
+     */
+    @Transactional
+    public AuctionOutcome<List<Bid>> registerMaxBid(Long itemId, User user, Long maxAmount) {
+        if (maxAmount == null) {
+            return RejectReason.BID_AMOUNT_REQUIRED.outcome();
+        }
+
+        Item item = itemRepository.findByIdForUpdate(itemId).orElse(null);
+        if (item == null) {
+            return RejectReason.ITEM_NOT_FOUND.outcome();
+        }
+
+        if (item.getStatus() != ItemStatus.AUCTION_STARTED) {
+            return RejectReason.NOT_STARTED.outcome();
+        }
+
+        if (!participantRepository.existsByItemIdAndUserId(itemId, user.getId())) {
+            return RejectReason.NOT_PARTICIPANT.outcome();
+        }
+
+        if (maxAmount <= item.getCurrentPrice()) {
+            return RejectReason.BID_TOO_LOW.outcome();
+        }
+
+        long available = holdService.available(user.getId(), ledgerService.balanceOf(user.getId()), itemId);
+        if (available < maxAmount) {
+            return RejectReason.INSUFFICIENT_BALANCE.outcome(available);
+        }
+
+        ProxyBook book = books.computeIfAbsent(itemId, id -> new ProxyBook());
+        synchronized (book) {
+            book.register(user.getId(), maxAmount);
+            return AuctionOutcome.accepted(resolve(book, item));
+        }
+    }
+
+    /**
+     * 일반 입찰 후 자동 입찰 응답까지 한 트랜잭션에서 처리
+     * 수락된 목록의 첫 번째는 사용자가 직접 한 입찰, 이후는 자동 입찰
+     * 사용자의 입찰이 거절되면 자동 입찰 정산 없이 거절 사유를 그대로 반환
+     */
+    @Transactional
+    public AuctionOutcome<List<Bid>> placeBid(Long itemId, User user, Long bidAmount) {
+        // 장부 확인 전에 물건 행을 잠가, 확인 직후 커밋된 자동 입찰 등록을 놓치지 않도록 함
+        itemRepository.findByIdForUpdate(itemId);
+        ProxyBook book = books.get(itemId);
+        if (book == null) {
+            return auctionService.placeBid(itemId, user, bidAmount).map(List::of);
+        }
+
+        synchronized (book) {
+            return auctionService.placeBid(itemId, user, bidAmount).map(bid -> {
+                List<Bid> bids = new ArrayList<>();
+                bids.add(bid);
+                bids.addAll(resolve(book, bid.getItem()));
+                return bids;
+            });
+        }
+    }
+
+    /**
+     * 자동 입찰 취소 (아직 보이는 입찰로 반영되지 않은 최대가만 제거)
+     */
+    public void cancelMaxBid(Long itemId, Long userId) {
+        ProxyBook book = books.get(itemId);
+        if (book != null) {
+            synchronized (book) {
+                book.entries.remove(userId);
+            }
+        }
+    }
+
+    /**
+     * 경매 종료 시 장부 정리
+     */
+    public void clear(Long itemId) {
+        books.remove(itemId);
+    }
+
+    // 장부와 현재 상태를 비교해 필요한 입찰을 저장
+    private List<Bid> resolve(ProxyBook book, Item item) {
+        Long leaderId = bidRepository.findTopBidByItemId(item.getId())
+                .map(bid -> bid.getBidder().getId())
+                .orElse(null);
+
+        // 등록 이후 다른 경매에 잔액이 묶여 홀드할 수 없게 된 자동 입찰은 제외하고 다시 정산
+        Resolution resolution = book.resolve(item.getCurrentPrice(), leaderId, increment);
+        Map<Long, User> bidders = new HashMap<>();
+        for (PendingBid next = firstUnaffordable(resolution, bidders, item.getId()); next != null;
+                next = firstUnaffordable(resolution, bidders, item.getId())) {
+            book.entries.remove(next.userId());
+            resolution = book.resolve(item.getCurrentPrice(), leaderId, increment);
+        }
+
+        List<Bid> placed = new ArrayList<>(resolution.bids().size());
+        for (PendingBid next : resolution.bids()) {
+            AuctionOutcome<Bid> outcome = auctionService.placeBid(item.getId(), bidders.get(next.userId()), next.amount());
+            if (!(outcome instanceof AuctionOutcome.Accepted<Bid> accepted)) {
+                // 마감 직후 등 정산 도중 거절되면 해당 자동 입찰을 제외하고 지금까지의 결과만 반영
+                log.warn("자동 입찰 거절: 물건 ID = {}, 사용자 ID = {}, 결과 = {}", item.getId(), next.userId(), outcome);
+                book.entries.remove(next.userId());
+                return placed;
+            }
+            placed.add(accepted.value());
+        }
+        book.evictOutbid(resolution.price(), resolution.leaderId());
+
+        if (!placed.isEmpty()) {
+            log.debug("자동 입찰 정산: 물건 ID = {}, 저장된 입찰 수 = {}, 현재가 = {}원",
+                    item.getId(), placed.size(), placed.get(placed.size() - 1).getBidAmount());
+        }
+        return placed;
+    }
+
+    // 홀드할 수 없는 첫 번째 자동 입찰 (없으면 null)
+    private PendingBid firstUnaffordable(Resolution resolution, Map<Long, User> bidders, Long itemId) {
+        for (PendingBid next : resolution.bids()) {
+            User bidder = bidders.computeIfAbsent(next.userId(), id -> userRepository.findById(id)
+                    .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다.")));
+            if (holdService.available(bidder.getId(), ledgerService.balanceOf(bidder.getId()), itemId) < next.amount()) {
+                return next;
+            }
+        }
+        return null;
+    }
+
+    record PendingBid(Long userId, long amount) {
+    }
+
+    record Resolution(List<PendingBid> bids, long price, Long leaderId) {
+    }
+
+    /**
+     * 경매 하나의 자동 입찰 장부 (호출자가 물건 행 잠금 안에서 synchronized 로 접근)
+     */
+    static final class ProxyBook {
+
+        private final Map<Long, ProxyEntry> entries = new HashMap<>();
+        private long sequence;
+
+        void register(Long userId, long maxAmount) {
+            ProxyEntry existing = entries.get(userId);
+            // 최대가를 올리는 경우에도 최초 등록 순서를 유지 (동일 최대가 시 먼저 등록한 사용자 우선)
+            long order = existing != null ? existing.order() : sequence++;
+            entries.put(userId, new ProxyEntry(userId, maxAmount, order));
+        }
+
+        /**
+         * 2등 가격 방식 정산
+         * - 2등 자동 입찰은 자신의 최대가까지 입찰한 것으로 기록
+         * - 1등 자동 입찰은 (2등 최대가 또는 현재가) + 증가폭, 단 자신의 최대가를 넘지 않음
+         * - 최대가가 같으면 먼저 등록한 사용자가 그 금액으로 선두
+         */
+        Resolution resolve(long currentPrice, Long leaderId, long increment) {
+            List<ProxyEntry> ranked = new ArrayList<>(entries.values());
+            ranked.sort(Comparator.comparingLong(ProxyEntry::maxAmount).reversed()
+                    .thenComparingLong(ProxyEntry::order));
+
+            List<PendingBid> pending = new ArrayList<>(2);
+            if (ranked.isEmpty()) {
+                return new Resolution(pending, currentPrice, leaderId);
+            }
+
+            ProxyEntry top = ranked.get(0);
+            ProxyEntry second = ranked.size() > 1 ? ranked.get(1) : null;
+            long price = currentPrice;
+            Long leader = leaderId;
+
+            if (second != null && second.maxAmount() > price) {
+                if (second.maxAmount() < top.maxAmount()) {
+                    pending.add(new PendingBid(second.userId(), second.maxAmount()));
+                    price = second.maxAmount();
+                    leader = second.userId();
+                } else {
+                    pending.add(new PendingBid(top.userId(), top.maxAmount()));
+                    return new Resolution(pending, top.maxAmount(), top.userId());
+                }
+            }
+
+            if (!top.userId().equals(leader) && top.maxAmount() > price) {
+                long amount = Math.min(top.maxAmount(), price + increment);
+                pending.add(new PendingBid(top.userId(), amount));
+                price = amount;
+                leader = top.userId();
+            }
+
+            return new Resolution(pending, price, leader);
+        }
+
+        // 더 이상 현재가를 넘을 수 없는 자동 입찰 제거 (정산 결과가 저장된 뒤 호출)
+        void evictOutbid(long price, Long leaderId) {
+            entries.values().removeIf(entry -> entry.maxAmount() <= price && !entry.userId().equals(leaderId));
+        }
+    }
+
+    record ProxyEntry(Long userId, long maxAmount, long order) {
+    }
+}
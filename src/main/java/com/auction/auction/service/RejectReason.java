@@ -0,0 +1,50 @@
+package com.auction.auction.service;
+
+/**
+ * 경매 참여/입찰 거절 사유
+ * 메시지는 messages/i18n*.properties 의 messageKey 로 조회
+ */
+public enum RejectReason {
+    ITEM_NOT_FOUND("auction.reject.item.not.found"),
+    USER_NOT_FOUND("auction.reject.user.not.found"),
+    LOGIN_REQUIRED("auction.reject.login.required"),
+    BID_AMOUNT_REQUIRED("auction.reject.bid.amount.required"),
+    NOT_RECRUITING("auction.reject.not.recruiting"),
+    RECRUITMENT_CLOSED("auction.reject.recruitment.closed"),
+    ALREADY_JOINED("auction.reject.already.joined"),
+    SELLER_CANNOT_JOIN("auction.reject.seller.cannot.join"),
+    NOT_STARTED("auction.reject.not.started"),
+    AUCTION_ENDED("auction.reject.ended"),
+    NOT_PARTICIPANT("auction.reject.not.participant"),
+    BID_TOO_LOW("auction.reject.bid.too.low"),
+    INSUFFICIENT_BALANCE("auction.reject.insufficient.balance");
+
+    private final String messageKey;
+
+    // 인자가 없는 거절 결과는 미리 만들어 두고 재사용 (거절 경로에서 할당 없음)
+    private final AuctionOutcome.Rejected<Object> outcome;
+
+    RejectReason(String messageKey) {
+        this.messageKey = messageKey;
+        this.outcome = new AuctionOutcome.Rejected<>(this, AuctionOutcome.NO_ARGS);
+    }
+
+    public String getMessageKey() {
+        return messageKey;
+    }
+
+    /**
+     * 인자가 없는 거절 결과 (공유 인스턴스)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> AuctionOutcome<T> outcome() {
+        return (AuctionOutcome<T>) outcome;
+    }
+
+    /**
+     * 메시지 인자가 있는 거절 결과
+     */
+    public <T> AuctionOutcome<T> outcome(Object... args) {
+        return new AuctionOutcome.Rejected<>(this, args);
+    }
+}
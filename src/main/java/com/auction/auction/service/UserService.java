@@ -16,6 +16,8 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final BalanceHoldService holdService;
+    private final LedgerService ledgerService;
 
     @Transactional
     public User registerUser(User user) {
@@ -44,6 +46,11 @@ public class UserService {
         return user;
     }
 
+    // 현재 잔액 (원장 기준)
+    public long getBalance(Long userId) {
+        return ledgerService.balanceOf(userId);
+    }
+
     public User getUser(String username) {
         return userRepository.findByUsername(username)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
@@ -62,9 +69,13 @@ public class UserService {
         // 이메일 업데이트
         user.setEmail(email);
 
-        // 잔액 업데이트
+        // 잔액 업데이트 (진행 중인 선두 입찰에 묶인 금액보다 작게 줄일 수 없음)
+        // users 행을 직접 수정하지 않고 차액을 충전/인출 원장 항목으로 기록 (확인과 기록은 입찰 홀드와 같은 락 안에서)
         if (balance != null && balance >= 0) {
-            user.setBalance(balance);
+            Long userId = user.getId();
+            holdService.changeBalance(userId, balance,
+                    () -> ledgerService.balanceOf(userId),
+                    delta -> ledgerService.postFunding(userId, delta));
         }
 
         // 비밀번호 변경 (새 비밀번호가 있는 경우)
@@ -0,0 +1,38 @@
+package com.auction.auction.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * 업로드 이미지 저장소 SPI
+ * key 는 저장소 루트 기준 상대 경로 (예: ab/cd/{hash}.jpg, ab/cd/{hash}_thumb.jpg)
+ * 구현은 file.storage.type 으로 선택 (local: 기본값, s3: S3 호환 저장소)
+ */
+public interface ImageStore {
+
+    /**
+     * put 에 넘길 임시 파일 생성 (저장소가 이동으로 가져갈 수 있도록 같은 파일 시스템에 생성)
+     */
+    Path createTempFile(String prefix) throws IOException;
+
+    /**
+     * source 파일을 key 로 저장 (source 는 저장소로 이동되거나 삭제될 수 있음)
+     */
+    void put(String key, Path source) throws IOException;
+
+    /**
+     * key 가 저장되어 있는지 확인
+     */
+    boolean exists(String key);
+
+    /**
+     * 읽기용 로컬 파일 (없으면 null)
+     * 원격 저장소는 로컬 캐시로 내려받아 반환하므로 이후 요청은 디스크에서 바로 제공
+     */
+    Path localFile(String key) throws IOException;
+
+    /**
+     * key 삭제 (없으면 무시)
+     */
+    void delete(String key) throws IOException;
+}
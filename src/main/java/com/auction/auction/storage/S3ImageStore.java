@@ -0,0 +1,268 @@
+package com.auction.auction.storage;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.FileTransformerConfiguration;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.S3AsyncClientBuilder;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.multipart.MultipartConfiguration;
+
+/**
+ * S3 호환 저장소 (AWS S3, MinIO, LocalStack 등)
+ * - 여러 노드가 같은 버킷을 공유하므로 세션 고정이나 공유 디스크가 필요 없음
+ * - 큰 파일은 멀티파트로 나누어 병렬 업로드 (file.storage.s3.multipart-threshold 이상)
+ * - 읽기는 file.upload-dir 아래 로컬 캐시를 거침 (없으면 내려받아 저장, 같은 key 동시 요청은 한 번만 다운로드)
+ * - 로컬 대체 환경: file.storage.s3.endpoint=http://localhost:9000, file.storage.s3.path-style=true
+ */
+@Component
+@ConditionalOnProperty(name = "file.storage.type", havingValue = "s3")
+@Slf4j
+public class S3ImageStore implements ImageStore {
+
+    private static final String CACHE_CONTROL = "public, max-age=31536000, immutable";
+
+    // 없는 key 확인 결과를 기억하는 시간 (목록 화면마다 HEAD 요청이 반복되지 않도록)
+    private static final long MISSING_TTL_MS = 60_000L;
+
+    private final S3AsyncClient client;
+    private final String bucket;
+    private final Path cacheRoot;
+    private final long cacheMaxBytes;
+
+    // 진행 중인 다운로드 (key -> 결과)
+    private final Map<String, CompletableFuture<Path>> downloads = new ConcurrentHashMap<>();
+
+    // 없는 것으로 확인된 key -> 만료 시각
+    private final Map<String, Long> missing = new ConcurrentHashMap<>();
+
+    public S3ImageStore(
+            @Value("${file.storage.s3.bucket}") String bucket,
+            @Value("${file.storage.s3.region:ap-northeast-2}") String region,
+            @Value("${file.storage.s3.endpoint:}") String endpoint,
+            @Value("${file.storage.s3.path-style:false}") boolean pathStyle,
+            @Value("${file.storage.s3.access-key:}") String accessKey,
+            @Value("${file.storage.s3.secret-key:}") String secretKey,
+            @Value("${file.storage.s3.multipart-threshold:8388608}") long multipartThreshold,
+            @Value("${file.storage.s3.part-size:5242880}") long partSize,
+            @Value("${file.storage.s3.cache-max-bytes:1073741824}") long cacheMaxBytes,
+            @Value("${file.upload-dir}") String uploadDir) {
+
+        S3AsyncClientBuilder builder = S3AsyncClient.builder()
+                .region(Region.of(region))
+                .forcePathStyle(pathStyle)
+                .multipartEnabled(true)
+                .multipartConfiguration(MultipartConfiguration.builder()
+                        .thresholdInBytes(multipartThreshold)
+                        .minimumPartSizeInBytes(partSize)
+                        .build());
+        if (!endpoint.isBlank()) {
+            builder.endpointOverride(URI.create(endpoint));
+        }
+        if (!accessKey.isBlank()) {
+            builder.credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create(accessKey, secretKey)));
+        }
+
+        this.client = builder.build();
+        this.bucket = bucket;
+        this.cacheRoot = Paths.get(uploadDir).toAbsolutePath().normalize();
+        this.cacheMaxBytes = cacheMaxBytes;
+        log.info("S3 이미지 저장소: bucket = {}, endpoint = {}, cache = {}", bucket,
+                endpoint.isBlank() ? "(default)" : endpoint, cacheRoot);
+    }
+
+    @Override
+    public Path createTempFile(String prefix) throws IOException {
+        Files.createDirectories(cacheRoot);
+        return Files.createTempFile(cacheRoot, prefix, ".part");
+    }
+
+    @Override
+    public void put(String key, Path source) throws IOException {
+        String contentType = MediaTypeFactory.getMediaType(key).orElse(MediaType.APPLICATION_OCTET_STREAM).toString();
+        await(client.putObject(request -> request.bucket(bucket).key(key)
+                .contentType(contentType)
+                .cacheControl(CACHE_CONTROL), AsyncRequestBody.fromFile(source)));
+        missing.remove(key);
+
+        // 방금 올린 파일은 그대로 로컬 캐시로 사용
+        Path cached = cached(key);
+        Files.createDirectories(cached.getParent());
+        Files.move(source, cached, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    @Override
+    public boolean exists(String key) {
+        if (Files.isRegularFile(cached(key))) {
+            return true;
+        }
+        Long expiresAt = missing.get(key);
+        if (expiresAt != null && expiresAt > System.currentTimeMillis()) {
+            return false;
+        }
+        try {
+            await(client.headObject(request -> request.bucket(bucket).key(key)));
+            missing.remove(key);
+            return true;
+        } catch (IOException e) {
+            if (isNotFound(e.getCause())) {
+                missing.put(key, System.currentTimeMillis() + MISSING_TTL_MS);
+                return false;
+            }
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public Path localFile(String key) throws IOException {
+        Path cached = cached(key);
+        if (Files.isRegularFile(cached)) {
+            return cached;
+        }
+
+        CompletableFuture<Path> download = downloads.computeIfAbsent(key, k -> fetch(k, cached));
+        try {
+            return await(download);
+        } finally {
+            downloads.remove(key, download);
+        }
+    }
+
+    @Override
+    public void delete(String key) throws IOException {
+        await(client.deleteObject(request -> request.bucket(bucket).key(key)));
+        Files.deleteIfExists(cached(key));
+    }
+
+    /**
+     * 로컬 캐시가 최대 크기를 넘으면 오래된 파일부터 삭제
+     */
+    @Scheduled(fixedDelayString = "${file.storage.s3.cache-evict-ms:600000}")
+    public void evictCache() throws IOException {
+        if (!Files.isDirectory(cacheRoot)) {
+            return;
+        }
+        List<Path> files = new ArrayList<>();
+        long total = 0;
+        try (Stream<Path> walk = Files.walk(cacheRoot)) {
+            for (Path file : (Iterable<Path>) walk.filter(Files::isRegularFile)
+                    .filter(file -> !file.getFileName().toString().endsWith(".part"))::iterator) {
+                files.add(file);
+                total += Files.size(file);
+            }
+        }
+        if (total <= cacheMaxBytes) {
+            return;
+        }
+
+        files.sort(Comparator.comparing(S3ImageStore::lastModified));
+        int removed = 0;
+        for (Path file : files) {
+            if (total <= cacheMaxBytes) {
+                break;
+            }
+            long size = Files.size(file);
+            if (Files.deleteIfExists(file)) {
+                total -= size;
+                removed++;
+            }
+        }
+        log.info("이미지 캐시 정리: {}개 삭제, 남은 크기 = {} bytes", removed, total);
+    }
+
+    @PreDestroy
+    public void close() {
+        client.close();
+    }
+
+    // S3 에서 임시 파일로 내려받은 뒤 캐시 위치로 이동 (없는 key 면 null)
+    private CompletableFuture<Path> fetch(String key, Path cached) {
+        Path temp;
+        try {
+            temp = createTempFile("download-");
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        return client.getObject(request -> request.bucket(bucket).key(key),
+                        AsyncResponseTransformer.toFile(temp, FileTransformerConfiguration.defaultCreateOrReplaceExisting()))
+                .handle((response, error) -> {
+                    try {
+                        if (error != null) {
+                            Files.deleteIfExists(temp);
+                            if (isNotFound(error)) {
+                                return null;
+                            }
+                            throw new CompletionException(error);
+                        }
+                        Files.createDirectories(cached.getParent());
+                        Files.move(temp, cached, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+                        return cached;
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+    }
+
+    private Path cached(String key) {
+        Path file = cacheRoot.resolve(key).normalize();
+        if (!file.startsWith(cacheRoot)) {
+            throw new IllegalArgumentException("잘못된 이미지 경로입니다: " + key);
+        }
+        return file;
+    }
+
+    // 비동기 결과 대기 (실패는 IOException 으로 변환)
+    private static <T> T await(CompletableFuture<T> future) throws IOException {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            if (cause instanceof CompletionException nested && nested.getCause() != null) {
+                cause = nested.getCause();
+            }
+            throw new IOException("S3 요청 실패: " + cause.getMessage(), cause);
+        }
+    }
+
+    private static boolean isNotFound(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        return cause instanceof S3Exception s3 && s3.statusCode() == 404;
+    }
+
+    private static FileTime lastModified(Path file) {
+        try {
+            return Files.getLastModifiedTime(file);
+        } catch (IOException e) {
+            return FileTime.fromMillis(0);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.auction.auction.util;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 간단한 서킷 브레이커
+ * - 연속 실패가 threshold 회에 도달하면 openMillis 동안 호출을 차단 (OPEN)
+ * - 차단 시간이 지나면 한 번만 시험 호출을 허용 (HALF_OPEN), 성공하면 다시 CLOSED
+ */
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final int threshold;
+    private final long openMillis;
+
+    private final AtomicInteger failures = new AtomicInteger();
+    private final AtomicLong openedAt = new AtomicLong(-1);
+
+    public CircuitBreaker(int threshold, long openMillis) {
+        this.threshold = threshold;
+        this.openMillis = openMillis;
+    }
+
+    /**
+     * 호출 허용 여부 (OPEN 이 끝난 뒤에는 한 스레드만 시험 호출)
+     */
+    public boolean tryAcquire() {
+        long opened = openedAt.get();
+        if (opened < 0) {
+            return true;
+        }
+        long now = System.currentTimeMillis();
+        // 시험 호출 권한은 openedAt 을 갱신한 스레드 하나에만 부여
+        return now - opened >= openMillis && openedAt.compareAndSet(opened, now);
+    }
+
+    public void onSuccess() {
+        failures.set(0);
+        openedAt.set(-1);
+    }
+
+    public void onFailure() {
+        if (failures.incrementAndGet() >= threshold) {
+            openedAt.set(System.currentTimeMillis());
+        }
+    }
+
+    public State state() {
+        long opened = openedAt.get();
+        if (opened < 0) {
+            return State.CLOSED;
+        }
+        return System.currentTimeMillis() - opened >= openMillis ? State.HALF_OPEN : State.OPEN;
+    }
+}
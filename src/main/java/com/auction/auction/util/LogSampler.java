@@ -0,0 +1,25 @@
+package com.auction.auction.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 고빈도 경로의 디버그 로그 샘플링
+ * N번 중 1번만 true 를 반환 (N <= 1 이면 항상 true)
+ */
+@Component
+public class LogSampler {
+
+    private final long rate;
+    private final AtomicLong counter = new AtomicLong();
+
+    public LogSampler(@Value("${auction.log.debug-sample-rate:1}") long rate) {
+        this.rate = rate;
+    }
+
+    public boolean sample() {
+        return rate <= 1 || counter.getAndIncrement() % rate == 0;
+    }
+}
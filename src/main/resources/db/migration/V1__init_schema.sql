@@ -0,0 +1,53 @@
+-- 초기 스키마 (Flyway 도입 이전 ddl-auto 로 만들어진 기존 스키마와 같음, MySQL / H2 MySQL 호환 모드 공용)
+-- 기존 DB 는 이 버전을 기준선으로 삼아 실행하지 않으므로, 이후 추가된 테이블과 컬럼은 모두 V2 이후에 둠
+
+CREATE TABLE users (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    username VARCHAR(50) NOT NULL,
+    password VARCHAR(255) NOT NULL,
+    email VARCHAR(100) NOT NULL,
+    name VARCHAR(50) NOT NULL,
+    balance BIGINT NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    CONSTRAINT uk_users_username UNIQUE (username),
+    CONSTRAINT uk_users_email UNIQUE (email)
+);
+
+CREATE TABLE items (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    title VARCHAR(200) NOT NULL,
+    description TEXT NOT NULL,
+    start_price BIGINT NOT NULL,
+    current_price BIGINT NOT NULL,
+    image_url VARCHAR(500),
+    status VARCHAR(20) NOT NULL,
+    recruitment_end_time DATETIME(6),
+    auction_start_time DATETIME(6),
+    end_time DATETIME(6) NOT NULL,
+    seller_id BIGINT NOT NULL,
+    winner_id BIGINT,
+    created_at DATETIME(6) NOT NULL,
+    CONSTRAINT fk_items_seller FOREIGN KEY (seller_id) REFERENCES users (id)
+);
+
+CREATE TABLE auction_participants (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    item_id BIGINT NOT NULL,
+    user_id BIGINT NOT NULL,
+    joined_at DATETIME(6) NOT NULL,
+    CONSTRAINT uk_participant UNIQUE (item_id, user_id),
+    CONSTRAINT fk_participants_item FOREIGN KEY (item_id) REFERENCES items (id),
+    CONSTRAINT fk_participants_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+CREATE TABLE bids (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    item_id BIGINT NOT NULL,
+    bidder_id BIGINT NOT NULL,
+    bid_amount BIGINT NOT NULL,
+    bid_time DATETIME(6) NOT NULL,
+    CONSTRAINT fk_bids_item FOREIGN KEY (item_id) REFERENCES items (id),
+    CONSTRAINT fk_bids_bidder FOREIGN KEY (bidder_id) REFERENCES users (id)
+);
+
+CREATE INDEX idx_item_time ON bids (item_id, bid_time DESC);
@@ -0,0 +1,17 @@
+-- 조회 성능용 보조 인덱스
+
+-- 상태 전환 스케줄러 (모집 종료 / 경매 종료 대상 조회), 상태별 목록
+CREATE INDEX idx_items_status_recruitment ON items (status, recruitment_end_time);
+CREATE INDEX idx_items_status_end ON items (status, end_time);
+
+-- 판매자별 물건 (내가 등록한 물건)
+CREATE INDEX idx_items_seller_id ON items (seller_id);
+
+-- 사용자별 입찰 내역 (최신순)
+CREATE INDEX idx_bids_bidder_time ON bids (bidder_id, bid_time);
+
+-- 경매별 최고 입찰
+CREATE INDEX idx_bids_item_amount ON bids (item_id, bid_amount);
+
+-- 내가 참여한 경매 (최신순)
+CREATE INDEX idx_participants_user_joined ON auction_participants (user_id, joined_at);
@@ -0,0 +1,12 @@
+-- 종료 후 오래 지난 경매의 입찰 내역 보관 (BidArchiveService 가 bids 에서 옮김)
+-- 추가만 되고 수정되지 않으므로 외래 키 없이 조회용 인덱스만 둠 (id 는 원래 bids.id 그대로)
+CREATE TABLE bids_archive (
+    id BIGINT PRIMARY KEY,
+    item_id BIGINT NOT NULL,
+    bidder_id BIGINT NOT NULL,
+    bid_amount BIGINT NOT NULL,
+    bid_time DATETIME(6) NOT NULL
+);
+
+CREATE INDEX idx_bids_archive_item_time ON bids_archive (item_id, bid_time);
+CREATE INDEX idx_bids_archive_bidder_time ON bids_archive (bidder_id, bid_time);
@@ -0,0 +1,22 @@
+-- 경매 요약 정보 (입찰 수, 참여자 수, 현재 선두) - AuctionSummaryService 가 입찰/참여/나가기 시 갱신
+
+ALTER TABLE items ADD COLUMN bid_count INT NOT NULL DEFAULT 0;
+ALTER TABLE items ADD COLUMN participant_count INT NOT NULL DEFAULT 0;
+ALTER TABLE items ADD COLUMN leader_id BIGINT;
+ALTER TABLE items ADD COLUMN leader_name VARCHAR(50);
+
+-- 기존 데이터로 채움 (보관된 입찰 포함)
+UPDATE items SET
+    bid_count = (SELECT COUNT(*) FROM bids b WHERE b.item_id = items.id)
+              + (SELECT COUNT(*) FROM bids_archive a WHERE a.item_id = items.id),
+    participant_count = (SELECT COUNT(*) FROM auction_participants p WHERE p.item_id = items.id);
+
+UPDATE items SET leader_id = (
+    SELECT b.bidder_id FROM bids b WHERE b.item_id = items.id ORDER BY b.bid_amount DESC, b.id DESC LIMIT 1);
+
+UPDATE items SET leader_id = (
+    SELECT a.bidder_id FROM bids_archive a WHERE a.item_id = items.id ORDER BY a.bid_amount DESC, a.id DESC LIMIT 1)
+WHERE leader_id IS NULL;
+
+UPDATE items SET leader_name = (SELECT u.username FROM users u WHERE u.id = items.leader_id)
+WHERE leader_id IS NOT NULL;
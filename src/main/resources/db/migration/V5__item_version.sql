@@ -0,0 +1,2 @@
+-- 물건 낙관적 잠금 버전 (Item.version, 상세 조회 ETag 에도 사용)
+ALTER TABLE items ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,44 @@
+-- 잔액 홀드, 잔액 원장과 스냅샷, 내용 주소 이미지 (Flyway 도입 이전 기존 DB 에는 없는 테이블이므로 V1 이후에 생성)
+
+CREATE TABLE balance_holds (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    item_id BIGINT NOT NULL,
+    amount BIGINT NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    CONSTRAINT uk_balance_hold UNIQUE (item_id, user_id)
+);
+
+CREATE TABLE ledger_entries (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    posting_id VARCHAR(36) NOT NULL,
+    account VARCHAR(30) NOT NULL,
+    user_id BIGINT,
+    item_id BIGINT,
+    amount BIGINT NOT NULL,
+    entry_type VARCHAR(20) NOT NULL,
+    created_at DATETIME(6) NOT NULL
+);
+
+CREATE INDEX idx_ledger_user_id ON ledger_entries (user_id, id);
+
+CREATE TABLE balance_snapshots (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    balance BIGINT NOT NULL,
+    last_entry_id BIGINT NOT NULL,
+    created_at DATETIME(6) NOT NULL
+);
+
+CREATE INDEX idx_snapshot_user_id ON balance_snapshots (user_id, id);
+
+CREATE TABLE image_blobs (
+    hash VARCHAR(64) NOT NULL PRIMARY KEY,
+    path VARCHAR(100) NOT NULL,
+    size BIGINT NOT NULL,
+    ref_count INT NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6) NOT NULL
+);
@@ -0,0 +1,132 @@
+package com.auction.auction.datasource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.auction.auction.model.Item;
+import com.auction.auction.model.Item.ItemStatus;
+import com.auction.auction.model.User;
+import com.auction.auction.repository.ItemRepository;
+import com.auction.auction.repository.UserRepository;
+import com.auction.auction.util.JwtUtil;
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * 주 DB / 복제본 라우팅 (embedded 프로필의 H2 를 주 DB 로, 별도 메모리 DB 를 복제본으로 사용)
+ * 같은 요청에서 읽기 전용 조회 뒤에 실행되는 쓰기 트랜잭션은 복제본 커넥션을 이어 쓰지 않고 주 DB 에 기록해야 함
+ */
+@SpringBootTest(properties = "datasource.replica.url=" + ReadReplicaRoutingTest.REPLICA_URL)
+@AutoConfigureMockMvc
+@ActiveProfiles("embedded")
+class ReadReplicaRoutingTest {
+
+    static final String REPLICA_URL = "jdbc:h2:mem:replica;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+
+    private static final String COUNT_PARTICIPANTS_SQL =
+            "SELECT COUNT(*) FROM auction_participants WHERE item_id = ? AND user_id = ?";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private HikariDataSource primaryDataSource;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    private final JdbcTemplate replica = new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", ""));
+
+    private User bidder;
+    private Item item;
+
+    /**
+     * 복제 지연 확인(SHOW REPLICA STATUS)은 H2 에서 실패하므로 항상 사용 가능한 것으로 대체
+     */
+    @TestConfiguration
+    static class AlwaysUsableReplica {
+
+        @Bean
+        @Primary
+        ReplicaLagMonitor alwaysUsableLagMonitor(HikariDataSource replicaDataSource) {
+            return new ReplicaLagMonitor(replicaDataSource, 0) {
+                @Override
+                public boolean isUsable() {
+                    return true;
+                }
+            };
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        Flyway.configure().dataSource(REPLICA_URL, "sa", "").load().migrate();
+
+        // 요청 밖에서는 주 DB 에 기록 (모집 중인 물건은 주 DB 에만 있음)
+        List<User> users = userRepository.findAll();
+        User seller = users.get(0);
+        bidder = users.get(1);
+
+        item = new Item();
+        item.setTitle("라우팅 확인용 물건");
+        item.setDescription("주 DB 에만 있는 모집 중인 물건");
+        item.setStartPrice(10_000L);
+        item.setStatus(ItemStatus.RECRUITING);
+        item.setSeller(seller);
+        LocalDateTime now = LocalDateTime.now();
+        item.setRecruitmentEndTime(now.plusHours(1));
+        item.setAuctionStartTime(now.plusHours(1));
+        item.setEndTime(now.plusHours(2));
+        item = itemRepository.save(item);
+
+        // 요청의 사용자 조회는 복제본에서 실행되므로 사용자 행만 복제
+        copyToReplica("users", bidder.getId());
+    }
+
+    @Test
+    void writeAfterReadOnlyLookupGoesToPrimary() throws Exception {
+        mockMvc.perform(post("/api/auctions/{itemId}/join", item.getId())
+                        .header("Authorization", "Bearer " + jwtUtil.generateToken(bidder.getUsername())))
+                .andExpect(status().isOk());
+
+        assertEquals(1, count(new JdbcTemplate(primaryDataSource)));
+        assertEquals(0, count(replica));
+    }
+
+    private int count(JdbcTemplate jdbcTemplate) {
+        return jdbcTemplate.queryForObject(COUNT_PARTICIPANTS_SQL, Integer.class, item.getId(), bidder.getId());
+    }
+
+    private void copyToReplica(String table, Long id) {
+        Map<String, Object> row = new JdbcTemplate(primaryDataSource)
+                .queryForMap("SELECT * FROM " + table + " WHERE id = ?", id);
+        replica.update("DELETE FROM " + table + " WHERE id = ?", id);
+        replica.update("INSERT INTO " + table + " (" + String.join(", ", row.keySet()) + ") VALUES ("
+                + String.join(", ", Collections.nCopies(row.size(), "?")) + ")", row.values().toArray());
+    }
+}
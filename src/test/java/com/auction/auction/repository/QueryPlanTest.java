@@ -0,0 +1,178 @@
+package com.auction.auction.repository;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Method;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import javax.sql.DataSource;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.auction.auction.model.Item.ItemStatus;
+
+/**
+ * 리포지토리 조회 실행 계획 회귀 테스트 (embedded 프로필의 H2, db/migration 인덱스 기준)
+ * 각 조회가 실행한 SQL 을 모두 기록해 EXPLAIN 하고, 계획에 테이블 전체 스캔(tableScan)이 있으면 실패
+ * 리포지토리에 조회 메서드를 추가하면 queries() 에도 추가해야 함 (everyQueryIsChecked)
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.auction.auction.repository.QueryPlanTest$SqlRecorder",
+        // 캐시 적중 시 SQL 이 실행되지 않으므로 캐시를 끄고 검사
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=false"
+})
+@ActiveProfiles("embedded")
+class QueryPlanTest {
+
+    // 설계상 테이블 대부분을 읽는 조회 (DELETED 를 뺀 전체 목록)
+    private static final Set<String> FULL_SCAN_ALLOWED = Set.of(
+            "ItemRepository.findByStatusNotOrderByCreatedAtDesc");
+
+    private static final List<Class<?>> REPOSITORIES = List.of(
+            ItemRepository.class, BidRepository.class, ArchivedBidRepository.class, AuctionParticipantRepository.class);
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private BidRepository bidRepository;
+
+    @Autowired
+    private ArchivedBidRepository archivedBidRepository;
+
+    @Autowired
+    private AuctionParticipantRepository participantRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private Map<String, Runnable> queries() {
+        Map<String, Runnable> queries = new LinkedHashMap<>();
+        queries.put("ItemRepository.findByStatus", () -> itemRepository.findByStatus(ItemStatus.RECRUITING));
+        queries.put("ItemRepository.findBySellerId", () -> itemRepository.findBySellerId(1L));
+        queries.put("ItemRepository.findByStatusNotOrderByCreatedAtDesc",
+                () -> itemRepository.findByStatusNotOrderByCreatedAtDesc(ItemStatus.DELETED));
+        queries.put("ItemRepository.findByStatusOrderByCreatedAtDesc",
+                () -> itemRepository.findByStatusOrderByCreatedAtDesc(ItemStatus.AUCTION_STARTED));
+        queries.put("ItemRepository.findByStatusInAndWinnerIdIsNotNull",
+                () -> itemRepository.findByStatusInAndWinnerIdIsNotNull(List.of(ItemStatus.AUCTION_ENDED, ItemStatus.SOLD)));
+        queries.put("ItemRepository.findByIdForUpdate", () -> itemRepository.findByIdForUpdate(1L));
+        queries.put("ItemRepository.findVersionById", () -> itemRepository.findVersionById(1L));
+
+        queries.put("BidRepository.findByItemIdOrderByBidTimeDesc", () -> bidRepository.findByItemIdOrderByBidTimeDesc(1L));
+        queries.put("BidRepository.findTopBidByItemId", () -> bidRepository.findTopBidByItemId(1L));
+        queries.put("BidRepository.countByItemId", () -> bidRepository.countByItemId(1L));
+        queries.put("BidRepository.findLastBidId", () -> bidRepository.findLastBidId(1L));
+        queries.put("BidRepository.findByBidderIdOrderByBidTimeDesc", () -> bidRepository.findByBidderIdOrderByBidTimeDesc(1L));
+        queries.put("BidRepository.findByItemIdAndBidderIdOrderByBidTimeDesc",
+                () -> bidRepository.findByItemIdAndBidderIdOrderByBidTimeDesc(1L, 1L));
+
+        queries.put("ArchivedBidRepository.findByItemIdOrderByBidTimeDesc",
+                () -> archivedBidRepository.findByItemIdOrderByBidTimeDesc(1L));
+        queries.put("ArchivedBidRepository.countByItemId", () -> archivedBidRepository.countByItemId(1L));
+        queries.put("ArchivedBidRepository.findByBidderIdOrderByBidTimeDesc",
+                () -> archivedBidRepository.findByBidderIdOrderByBidTimeDesc(1L));
+
+        queries.put("AuctionParticipantRepository.findByItemId", () -> participantRepository.findByItemId(1L));
+        queries.put("AuctionParticipantRepository.findByUserIdOrderByJoinedAtDesc",
+                () -> participantRepository.findByUserIdOrderByJoinedAtDesc(1L));
+        queries.put("AuctionParticipantRepository.findMyAuctions", () -> participantRepository.findMyAuctions(1L));
+        queries.put("AuctionParticipantRepository.findByItemIdAndUserId",
+                () -> participantRepository.findByItemIdAndUserId(1L, 1L));
+        queries.put("AuctionParticipantRepository.existsByItemIdAndUserId",
+                () -> participantRepository.existsByItemIdAndUserId(1L, 1L));
+        queries.put("AuctionParticipantRepository.countByItemId", () -> participantRepository.countByItemId(1L));
+        return queries;
+    }
+
+    @Test
+    void everyQueryIsChecked() {
+        Set<String> checked = queries().keySet();
+        for (Class<?> repository : REPOSITORIES) {
+            for (Method method : repository.getDeclaredMethods()) {
+                String name = repository.getSimpleName() + "." + method.getName();
+                assertTrue(checked.contains(name), "실행 계획 검사에 없는 조회: " + name);
+            }
+        }
+    }
+
+    @Test
+    void repositoryQueriesUseIndexes() throws Exception {
+        List<String> failures = new ArrayList<>();
+        for (Map.Entry<String, Runnable> query : queries().entrySet()) {
+            List<String> statements = SqlRecorder.record(query.getValue());
+            assertFalse(statements.isEmpty(), "실행된 SQL 없음: " + query.getKey());
+            if (FULL_SCAN_ALLOWED.contains(query.getKey())) {
+                continue;
+            }
+            for (String sql : statements) {
+                String plan = explain(sql);
+                if (plan.toLowerCase(Locale.ROOT).contains("tablescan")) {
+                    failures.add(query.getKey() + "\n" + plan);
+                }
+            }
+        }
+        assertTrue(failures.isEmpty(), "테이블 전체 스캔:\n" + String.join("\n\n", failures));
+    }
+
+    // 바인딩 값과 관계없이 준비 단계에서 정해진 계획을 보므로 파라미터는 NULL 로 채움
+    private String explain(String sql) throws Exception {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+            int parameters = statement.getParameterMetaData().getParameterCount();
+            for (int i = 1; i <= parameters; i++) {
+                statement.setObject(i, null);
+            }
+            try (ResultSet result = statement.executeQuery()) {
+                StringBuilder plan = new StringBuilder();
+                while (result.next()) {
+                    plan.append(result.getString(1)).append('\n');
+                }
+                return plan.toString();
+            }
+        }
+    }
+
+    /**
+     * 테스트 스레드에서 실행된 SQL 기록 (스케줄러 등 다른 스레드의 SQL 은 제외)
+     */
+    public static class SqlRecorder implements StatementInspector {
+
+        private static final ThreadLocal<List<String>> RECORDED = new ThreadLocal<>();
+
+        static List<String> record(Runnable query) {
+            List<String> statements = new ArrayList<>();
+            RECORDED.set(statements);
+            try {
+                query.run();
+            } finally {
+                RECORDED.remove();
+            }
+            return statements;
+        }
+
+        @Override
+        public String inspect(String sql) {
+            List<String> statements = RECORDED.get();
+            if (statements != null) {
+                statements.add(sql);
+            }
+            return sql;
+        }
+    }
+}
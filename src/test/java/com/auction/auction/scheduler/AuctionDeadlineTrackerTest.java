@@ -0,0 +1,131 @@
+package com.auction.auction.scheduler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 소프트 클로즈 마감 관리 (연장, 마감 대기열, 롤백 시 되돌림)
+ */
+class AuctionDeadlineTrackerTest {
+
+    private static final Long ITEM_ID = 1L;
+    private static final LocalDateTime T0 = LocalDateTime.of(2026, 1, 1, 12, 0);
+
+    private AuctionDeadlineTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        tracker = new AuctionDeadlineTracker();
+        ReflectionTestUtils.setField(tracker, "windowSeconds", 30L);
+        ReflectionTestUtils.setField(tracker, "extensionSeconds", 30L);
+    }
+
+    @Test
+    void bidBeforeWindowKeepsDeadline() {
+        LocalDateTime end = T0.plusMinutes(5);
+
+        assertEquals(end, tracker.acceptBid(ITEM_ID, end, T0));
+        assertEquals(end, tracker.deadlineOf(ITEM_ID, end));
+    }
+
+    @Test
+    void bidInsideWindowExtendsDeadline() {
+        LocalDateTime end = T0.plusSeconds(10);
+
+        assertEquals(T0.plusSeconds(30), tracker.acceptBid(ITEM_ID, end, T0));
+        assertEquals(T0.plusSeconds(30), tracker.deadlineOf(ITEM_ID, end));
+    }
+
+    @Test
+    void bidAfterDeadlineIsRejected() {
+        assertNull(tracker.acceptBid(ITEM_ID, T0.minusSeconds(1), T0));
+    }
+
+    @Test
+    void extendedAuctionIsPolledAtNewDeadline() {
+        tracker.track(ITEM_ID, T0.plusSeconds(10));
+        tracker.acceptBid(ITEM_ID, T0.plusSeconds(10), T0.plusSeconds(5));
+
+        // 원래 마감 시각에는 연장된 마감으로 다시 대기
+        assertTrue(tracker.pollDue(T0.plusSeconds(20)).isEmpty());
+        assertEquals(List.of(ITEM_ID), tracker.pollDue(T0.plusSeconds(40)));
+    }
+
+    @Test
+    void closeEndsTrackingAndRejectsLaterBids() {
+        tracker.track(ITEM_ID, T0);
+
+        assertTrue(tracker.tryClose(ITEM_ID, T0, T0.plusSeconds(1)));
+        assertNull(tracker.acceptBid(ITEM_ID, T0, T0.plusSeconds(1)));
+        assertTrue(tracker.pollDue(T0.plusSeconds(2)).isEmpty());
+    }
+
+    @Test
+    void closeIsSkippedWhenDeadlineWasExtended() {
+        tracker.track(ITEM_ID, T0.plusSeconds(10));
+        tracker.acceptBid(ITEM_ID, T0.plusSeconds(10), T0.plusSeconds(5));
+
+        assertFalse(tracker.tryClose(ITEM_ID, T0.plusSeconds(10), T0.plusSeconds(20)));
+        assertEquals(T0.plusSeconds(35), tracker.deadlineOf(ITEM_ID, T0.plusSeconds(10)));
+    }
+
+    @Test
+    void rolledBackBidDoesNotExtendDeadline() {
+        LocalDateTime end = T0.plusSeconds(10);
+        tracker.track(ITEM_ID, end);
+
+        inTransaction(false, () -> tracker.acceptBid(ITEM_ID, end, T0));
+
+        assertEquals(end, tracker.deadlineOf(ITEM_ID, end));
+    }
+
+    @Test
+    void committedBidKeepsExtension() {
+        LocalDateTime end = T0.plusSeconds(10);
+        tracker.track(ITEM_ID, end);
+
+        inTransaction(true, () -> tracker.acceptBid(ITEM_ID, end, T0));
+
+        assertEquals(T0.plusSeconds(30), tracker.deadlineOf(ITEM_ID, end));
+    }
+
+    @Test
+    void rolledBackCloseResumesTracking() {
+        tracker.track(ITEM_ID, T0);
+        tracker.pollDue(T0.plusSeconds(1));
+
+        inTransaction(false, () -> assertTrue(tracker.tryClose(ITEM_ID, T0, T0.plusSeconds(1))));
+
+        // 다시 추적되어 다음 주기에 마감 재시도
+        assertEquals(List.of(ITEM_ID), tracker.pollDue(T0.plusSeconds(2)));
+    }
+
+    // 트랜잭션 동기화를 흉내 내어 work 를 실행하고 커밋 또는 롤백으로 완료
+    private static void inTransaction(boolean commit, Runnable work) {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            work.run();
+            for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+                if (commit) {
+                    synchronization.afterCommit();
+                }
+                synchronization.afterCompletion(commit
+                        ? TransactionSynchronization.STATUS_COMMITTED
+                        : TransactionSynchronization.STATUS_ROLLED_BACK);
+            }
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+}
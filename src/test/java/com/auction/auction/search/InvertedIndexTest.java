@@ -0,0 +1,90 @@
+package com.auction.auction.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * 역색인 점수 계산과 상위 k개 선택
+ */
+class InvertedIndexTest {
+
+    @Test
+    void onlyDocumentsSharingQueryTermsAreScored() {
+        InvertedIndex index = new InvertedIndex();
+        index.put(1L, Map.of("iphone", 1.0f));
+        index.put(2L, Map.of("galaxy", 1.0f));
+
+        Map<Long, Float> scores = index.score(Map.of("iphone", 1.0f));
+
+        assertEquals(Map.of(1L, (float) Math.log(1.0 + 2.0 / 1)), scores);
+    }
+
+    @Test
+    void rareTermsWeighMoreThanCommonOnes() {
+        InvertedIndex index = new InvertedIndex();
+        index.put(1L, Map.of("case", 1.0f, "iphone", 1.0f));
+        index.put(2L, Map.of("case", 1.0f, "galaxy", 1.0f));
+        index.put(3L, Map.of("case", 1.0f));
+
+        Map<Long, Float> scores = index.score(Map.of("case", 1.0f, "iphone", 1.0f));
+
+        // 모든 문서에 있는 case 보다 한 문서에만 있는 iphone 이 점수를 더 올림
+        assertTrue(scores.get(1L) > scores.get(2L));
+        assertEquals(scores.get(2L), scores.get(3L));
+    }
+
+    @Test
+    void scoreScalesWithQueryAndDocumentWeights() {
+        InvertedIndex index = new InvertedIndex();
+        index.put(1L, Map.of("desk", 2.0f));
+        index.put(2L, Map.of("desk", 1.0f));
+
+        Map<Long, Float> scores = index.score(Map.of("desk", 3.0f));
+
+        float idf = (float) Math.log(1.0 + 2.0 / 2);
+        assertEquals(idf * 3.0f * 2.0f, scores.get(1L), 1e-6f);
+        assertEquals(idf * 3.0f * 1.0f, scores.get(2L), 1e-6f);
+    }
+
+    @Test
+    void replacedAndRemovedDocumentsLeaveNoPostings() {
+        InvertedIndex index = new InvertedIndex();
+        index.put(1L, Map.of("old", 1.0f));
+        index.put(1L, Map.of("new", 1.0f));
+
+        assertTrue(index.score(Map.of("old", 1.0f)).isEmpty());
+        assertEquals(1, index.termCount());
+
+        index.remove(1L);
+        assertEquals(0, index.size());
+        assertEquals(0, index.termCount());
+    }
+
+    @Test
+    void topReturnsHighestScoresInDescendingOrder() {
+        Map<Long, Float> scores = Map.of(1L, 0.5f, 2L, 3.0f, 3L, 1.5f, 4L, 2.0f);
+
+        assertEquals(List.of(2L, 4L), InvertedIndex.top(scores, 2, id -> true));
+        assertEquals(List.of(2L, 4L, 3L, 1L), InvertedIndex.top(scores, 10, id -> true));
+    }
+
+    @Test
+    void topSkipsFilteredDocuments() {
+        Map<Long, Float> scores = Map.of(1L, 0.5f, 2L, 3.0f, 3L, 1.5f);
+
+        assertEquals(List.of(3L, 1L), InvertedIndex.top(scores, 2, id -> id != 2L));
+    }
+
+    @Test
+    void titleTermsOutweighDescriptionTerms() {
+        Map<String, Float> weights = InvertedIndex.weights("desk", "chair");
+
+        assertTrue(weights.get("desk") > weights.get("chair"));
+        assertEquals(1.0f, weights.get("chair"), 1e-6f);
+    }
+}
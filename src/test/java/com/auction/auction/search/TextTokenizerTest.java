@@ -0,0 +1,52 @@
+package com.auction.auction.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * 토큰 분리 (한글 bigram, 영문/숫자 단어, 한 글자 한글)
+ */
+class TextTokenizerTest {
+
+    @Test
+    void hangulIsSplitIntoBigrams() {
+        assertEquals(List.of("아이", "이폰", "폰케", "케이", "이스"), TextTokenizer.tokenize("아이폰케이스"));
+    }
+
+    @Test
+    void singleHangulWordIsKept() {
+        assertEquals(List.of("새", "책상"), TextTokenizer.tokenize("새 책상"));
+    }
+
+    @Test
+    void lettersAndDigitsAreSeparateLowercaseTokens() {
+        assertEquals(List.of("iphone", "13", "pro"), TextTokenizer.tokenize("iPhone13 Pro"));
+    }
+
+    @Test
+    void mixedScriptsSplitAtBoundaries() {
+        assertEquals(List.of("갤럭", "럭시", "s", "24"), TextTokenizer.tokenize("갤럭시S24"));
+    }
+
+    @Test
+    void punctuationAndWhitespaceAreDropped() {
+        assertEquals(List.of("a", "급", "2"), TextTokenizer.tokenize("(A급) - 2!"));
+    }
+
+    @Test
+    void emptyOrNullTextHasNoTokens() {
+        assertTrue(TextTokenizer.tokenize(null).isEmpty());
+        assertTrue(TextTokenizer.tokenize("").isEmpty());
+        assertTrue(TextTokenizer.tokenize("  !? ").isEmpty());
+    }
+
+    @Test
+    void termFrequenciesCountRepeats() {
+        assertEquals(Map.of("usb", 2, "c", 1), TextTokenizer.termFrequencies("USB-C usb"));
+    }
+}
@@ -0,0 +1,203 @@
+package com.auction.auction.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.auction.auction.service.BalanceHoldService.HoldTicket;
+
+/**
+ * 입찰 금액 홀드 (잔액 계산, 선두 교체, 롤백/취소 시 되돌림, 정산, 인출)
+ */
+class BalanceHoldServiceTest {
+
+    private static final Long ITEM_A = 10L;
+    private static final Long ITEM_B = 20L;
+    private static final Long ALICE = 1L;
+    private static final Long BOB = 2L;
+
+    private HoldTable table;
+    private BalanceHoldService service;
+
+    @BeforeEach
+    void setUp() {
+        table = new HoldTable();
+        service = new BalanceHoldService(null, table);
+    }
+
+    @Test
+    void holdReducesAvailableBalance() {
+        assertNotNull(service.hold(ITEM_A, ALICE, 100_000L, 30_000L));
+
+        assertEquals(30_000L, service.heldTotal(ALICE));
+        assertEquals(70_000L, service.available(ALICE, 100_000L, ITEM_B));
+        // 같은 경매에 묶인 금액은 다시 사용할 수 있음
+        assertEquals(100_000L, service.available(ALICE, 100_000L, ITEM_A));
+        assertEquals("ACTIVE:30000", table.row(ITEM_A, ALICE));
+    }
+
+    @Test
+    void insufficientBalanceChangesNothing() {
+        service.hold(ITEM_A, ALICE, 100_000L, 80_000L);
+
+        assertNull(service.hold(ITEM_B, ALICE, 100_000L, 30_000L));
+        assertEquals(80_000L, service.heldTotal(ALICE));
+        assertNull(table.row(ITEM_B, ALICE));
+    }
+
+    @Test
+    void rebidOnSameItemReplacesHold() {
+        service.hold(ITEM_A, ALICE, 100_000L, 30_000L);
+
+        assertNotNull(service.hold(ITEM_A, ALICE, 100_000L, 90_000L));
+        assertEquals(90_000L, service.heldTotal(ALICE));
+        assertEquals("ACTIVE:90000", table.row(ITEM_A, ALICE));
+    }
+
+    @Test
+    void newLeaderReleasesPreviousLeader() {
+        service.hold(ITEM_A, ALICE, 100_000L, 30_000L);
+        service.hold(ITEM_A, BOB, 100_000L, 40_000L);
+
+        assertEquals(0L, service.heldTotal(ALICE));
+        assertEquals(40_000L, service.heldTotal(BOB));
+        assertEquals("RELEASED:30000", table.row(ITEM_A, ALICE));
+        assertEquals("ACTIVE:40000", table.row(ITEM_A, BOB));
+    }
+
+    @Test
+    void rolledBackTransactionRestoresPreviousLeader() {
+        service.hold(ITEM_A, ALICE, 100_000L, 30_000L);
+
+        inTransaction(false, () -> service.hold(ITEM_A, BOB, 100_000L, 40_000L));
+
+        assertEquals(30_000L, service.heldTotal(ALICE));
+        assertEquals(0L, service.heldTotal(BOB));
+        // 선두도 ALICE 로 되돌아가 다음 입찰이 ALICE 홀드를 해제
+        inTransaction(true, () -> service.hold(ITEM_A, BOB, 100_000L, 40_000L));
+        assertEquals(0L, service.heldTotal(ALICE));
+    }
+
+    @Test
+    void committedTransactionKeepsHold() {
+        inTransaction(true, () -> service.hold(ITEM_A, ALICE, 100_000L, 30_000L));
+
+        assertEquals(30_000L, service.heldTotal(ALICE));
+    }
+
+    @Test
+    void cancelWritesRestoredState() {
+        service.hold(ITEM_A, ALICE, 100_000L, 30_000L);
+        HoldTicket ticket = service.hold(ITEM_A, BOB, 100_000L, 40_000L);
+
+        ticket.cancel();
+        ticket.cancel();
+
+        assertEquals(30_000L, service.heldTotal(ALICE));
+        assertEquals(0L, service.heldTotal(BOB));
+        assertEquals("ACTIVE:30000", table.row(ITEM_A, ALICE));
+        assertEquals("RELEASED:40000", table.row(ITEM_A, BOB));
+    }
+
+    @Test
+    void settleAppliesAfterCommit() {
+        service.hold(ITEM_A, ALICE, 100_000L, 30_000L);
+
+        inTransaction(false, () -> service.settle(ITEM_A, ALICE));
+        assertEquals(30_000L, service.heldTotal(ALICE));
+
+        inTransaction(true, () -> service.settle(ITEM_A, ALICE));
+        assertEquals(0L, service.heldTotal(ALICE));
+        assertEquals("SETTLED:30000", table.row(ITEM_A, ALICE));
+    }
+
+    @Test
+    void withdrawalBelowHeldAmountIsRejected() {
+        service.hold(ITEM_A, ALICE, 100_000L, 30_000L);
+        long[] posted = {0L};
+
+        assertThrows(IllegalArgumentException.class,
+                () -> service.changeBalance(ALICE, 20_000L, () -> 100_000L, delta -> posted[0] += delta));
+        assertEquals(0L, posted[0]);
+
+        service.changeBalance(ALICE, 30_000L, () -> 100_000L, delta -> posted[0] += delta);
+        assertEquals(-70_000L, posted[0]);
+    }
+
+    @Test
+    void pendingWithdrawalCannotBeHeld() {
+        inTransaction(true, () -> {
+            service.changeBalance(ALICE, 40_000L, () -> 100_000L, delta -> { });
+            // 인출이 커밋되기 전의 잔액으로 계산하는 입찰
+            assertNull(service.hold(ITEM_A, ALICE, 100_000L, 50_000L));
+            assertEquals(40_000L, service.available(ALICE, 100_000L, ITEM_B));
+            // 아직 끝나지 않은 인출도 묶인 금액으로 봄
+            assertThrows(IllegalArgumentException.class,
+                    () -> service.changeBalance(ALICE, 50_000L, () -> 100_000L, delta -> { }));
+        });
+
+        // 커밋 후에는 원장 잔액에 반영되므로 더 이상 묶지 않음
+        assertNotNull(service.hold(ITEM_A, ALICE, 40_000L, 40_000L));
+    }
+
+    // 트랜잭션 동기화를 흉내 내어 work 를 실행하고 커밋 또는 롤백으로 완료
+    private static void inTransaction(boolean commit, Runnable work) {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            work.run();
+            for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+                if (commit) {
+                    synchronization.afterCommit();
+                }
+                synchronization.afterCompletion(commit
+                        ? TransactionSynchronization.STATUS_COMMITTED
+                        : TransactionSynchronization.STATUS_ROLLED_BACK);
+            }
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    /**
+     * balance_holds 테이블 대역 ("상태:금액" 으로 보관, 트랜잭션 롤백은 흉내 내지 않음)
+     */
+    private static class HoldTable extends JdbcTemplate {
+
+        private final Map<String, String> rows = new HashMap<>();
+
+        String row(Long itemId, Long userId) {
+            return rows.get(itemId + ":" + userId);
+        }
+
+        @Override
+        public int update(String sql, Object... args) {
+            if (sql.startsWith("INSERT")) {
+                rows.put(args[1] + ":" + args[0], args[3] + ":" + args[2]);
+                return 1;
+            }
+            if (sql.contains("amount = ?")) {
+                return replace(args[3] + ":" + args[4], args[1] + ":" + args[0]);
+            }
+            String key = args[2] + ":" + args[3];
+            String current = rows.get(key);
+            if (current == null || !current.startsWith("ACTIVE:")) {
+                return 0;
+            }
+            return replace(key, args[0] + current.substring(current.indexOf(':')));
+        }
+
+        private int replace(String key, String value) {
+            return rows.replace(key, value) == null ? 0 : 1;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.auction.auction.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.auction.auction.repository.UserRepository;
+
+/**
+ * 잔액 원장 스냅샷 (embedded 프로필의 H2)
+ * 원장 항목 ID 는 INSERT 시점에 정해지므로, 먼저 INSERT 하고 늦게 커밋한 항목이 스냅샷에서 누락되지 않아야 함
+ */
+@SpringBootTest
+@ActiveProfiles("embedded")
+class LedgerServiceTest {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO ledger_entries (posting_id, account, user_id, item_id, amount, entry_type, created_at) " +
+            "VALUES (?, ?, ?, NULL, ?, 'DEPOSIT', ?)";
+
+    @Autowired
+    private LedgerService ledgerService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void snapshotKeepsPostingThatCommitsLater() throws SQLException {
+        Long userId = userRepository.findAll().get(0).getId();
+        long before = ledgerService.balanceOf(userId);
+
+        try (Connection open = dataSource.getConnection()) {
+            open.setAutoCommit(false);
+            // 작은 ID 를 먼저 받고 아직 커밋하지 않은 충전
+            insertDeposit(open, userId, 1_000L);
+            // 더 큰 ID 로 먼저 커밋된 충전
+            transactionTemplate.executeWithoutResult(status -> ledgerService.postFunding(userId, 2_000L));
+
+            ledgerService.snapshot();
+            open.commit();
+        }
+
+        assertEquals(before + 3_000L, ledgerService.balanceOf(userId));
+
+        // 두 트랜잭션이 모두 끝난 뒤의 스냅샷은 두 항목을 함께 반영
+        ledgerService.snapshotBefore(LocalDateTime.now());
+        assertEquals(before + 3_000L, ledgerService.balanceOf(userId));
+    }
+
+    // LedgerService 와 같은 형태 (사용자 계좌 + 외부 입금 계정)로 기록
+    private static void insertDeposit(Connection connection, Long userId, long amount) throws SQLException {
+        String postingId = UUID.randomUUID().toString();
+        Timestamp createdAt = Timestamp.valueOf(LocalDateTime.now());
+        try (PreparedStatement insert = connection.prepareStatement(INSERT_SQL)) {
+            addEntry(insert, postingId, "USER_WALLET", userId, amount, createdAt);
+            addEntry(insert, postingId, "EXTERNAL_FUNDING", null, -amount, createdAt);
+            insert.executeBatch();
+        }
+    }
+
+    private static void addEntry(PreparedStatement insert, String postingId, String account, Long userId,
+                                 long amount, Timestamp createdAt) throws SQLException {
+        insert.setString(1, postingId);
+        insert.setString(2, account);
+        insert.setObject(3, userId, Types.BIGINT);
+        insert.setLong(4, amount);
+        insert.setTimestamp(5, createdAt);
+        insert.addBatch();
+    }
+}
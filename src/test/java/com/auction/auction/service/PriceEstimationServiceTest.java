@@ -0,0 +1,63 @@
+package com.auction.auction.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * 낙찰가 통계 (선형 보간 백분위수, 절사 평균)
+ */
+class PriceEstimationServiceTest {
+
+    private static final double DELTA = 1e-9;
+
+    @Test
+    void percentileOfSingleValueIsThatValue() {
+        long[] sorted = {15_000L};
+
+        assertEquals(15_000.0, PriceEstimationService.percentile(sorted, 0.1), DELTA);
+        assertEquals(15_000.0, PriceEstimationService.percentile(sorted, 0.9), DELTA);
+    }
+
+    @Test
+    void percentileHitsEndsAndMiddle() {
+        long[] sorted = {10_000L, 20_000L, 30_000L};
+
+        assertEquals(10_000.0, PriceEstimationService.percentile(sorted, 0.0), DELTA);
+        assertEquals(20_000.0, PriceEstimationService.percentile(sorted, 0.5), DELTA);
+        assertEquals(30_000.0, PriceEstimationService.percentile(sorted, 1.0), DELTA);
+    }
+
+    @Test
+    void percentileInterpolatesBetweenNeighbours() {
+        long[] sorted = {10_000L, 20_000L, 30_000L, 40_000L};
+
+        // 위치 = 0.5 * 3 = 1.5 → 20,000 과 30,000 의 중간
+        assertEquals(25_000.0, PriceEstimationService.percentile(sorted, 0.5), DELTA);
+        // 위치 = 0.1 * 3 = 0.3 → 10,000 + 0.3 * 10,000
+        assertEquals(13_000.0, PriceEstimationService.percentile(sorted, 0.1), DELTA);
+    }
+
+    @Test
+    void trimmedMeanDropsOutliersOnBothSides() {
+        long[] sorted = {1_000L, 10_000L, 10_000L, 10_000L, 10_000L, 10_000L, 10_000L, 10_000L, 10_000L, 900_000L};
+
+        // 10개 중 양쪽 10% (1개씩) 제외
+        assertEquals(10_000.0, PriceEstimationService.trimmedMean(sorted, 0.1), DELTA);
+    }
+
+    @Test
+    void trimmedMeanKeepsAllWhenTooFewToTrim() {
+        long[] sorted = {10_000L, 20_000L, 60_000L};
+
+        // 3 * 0.1 = 0.3 → 제외할 값 없음
+        assertEquals(30_000.0, PriceEstimationService.trimmedMean(sorted, 0.1), DELTA);
+    }
+
+    @Test
+    void trimmedMeanWithZeroRatioIsPlainMean() {
+        long[] sorted = {10_000L, 20_000L, 30_000L, 40_000L};
+
+        assertEquals(25_000.0, PriceEstimationService.trimmedMean(sorted, 0.0), DELTA);
+    }
+}
@@ -0,0 +1,143 @@
+package com.auction.auction.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.auction.auction.service.ProxyBidService.PendingBid;
+import com.auction.auction.service.ProxyBidService.ProxyBook;
+import com.auction.auction.service.ProxyBidService.Resolution;
+
+/**
+ * 자동 입찰 장부 정산 (2등 가격 방식, 동일 최대가, 증가폭 상한)
+ */
+class ProxyBookTest {
+
+    private static final long INCREMENT = 1_000L;
+    private static final Long ALICE = 1L;
+    private static final Long BOB = 2L;
+    private static final Long CAROL = 3L;
+
+    @Test
+    void singleProxyOutbidsCurrentPriceByIncrement() {
+        ProxyBook book = new ProxyBook();
+        book.register(ALICE, 50_000L);
+
+        Resolution resolution = book.resolve(10_000L, CAROL, INCREMENT);
+
+        assertEquals(List.of(new PendingBid(ALICE, 11_000L)), resolution.bids());
+        assertEquals(11_000L, resolution.price());
+        assertEquals(ALICE, resolution.leaderId());
+    }
+
+    @Test
+    void leadingProxyDoesNotBidAgainstItself() {
+        ProxyBook book = new ProxyBook();
+        book.register(ALICE, 50_000L);
+
+        Resolution resolution = book.resolve(11_000L, ALICE, INCREMENT);
+
+        assertTrue(resolution.bids().isEmpty());
+        assertEquals(11_000L, resolution.price());
+        assertEquals(ALICE, resolution.leaderId());
+    }
+
+    @Test
+    void competingProxiesSettleAtSecondPricePlusIncrement() {
+        ProxyBook book = new ProxyBook();
+        book.register(ALICE, 50_000L);
+        book.register(BOB, 30_000L);
+
+        Resolution resolution = book.resolve(10_000L, null, INCREMENT);
+
+        // 2등은 자신의 최대가까지, 1등은 그보다 증가폭만큼 높게
+        assertEquals(List.of(new PendingBid(BOB, 30_000L), new PendingBid(ALICE, 31_000L)), resolution.bids());
+        assertEquals(31_000L, resolution.price());
+        assertEquals(ALICE, resolution.leaderId());
+    }
+
+    @Test
+    void incrementIsCappedAtWinnersMaxAmount() {
+        ProxyBook book = new ProxyBook();
+        book.register(ALICE, 30_500L);
+        book.register(BOB, 30_000L);
+
+        Resolution resolution = book.resolve(10_000L, null, INCREMENT);
+
+        assertEquals(List.of(new PendingBid(BOB, 30_000L), new PendingBid(ALICE, 30_500L)), resolution.bids());
+        assertEquals(30_500L, resolution.price());
+    }
+
+    @Test
+    void equalMaxAmountsGoToEarlierRegistration() {
+        ProxyBook book = new ProxyBook();
+        book.register(BOB, 30_000L);
+        book.register(ALICE, 30_000L);
+
+        Resolution resolution = book.resolve(10_000L, null, INCREMENT);
+
+        // 같은 최대가면 먼저 등록한 사용자가 그 금액으로 선두 (입찰 한 건만 저장)
+        assertEquals(List.of(new PendingBid(BOB, 30_000L)), resolution.bids());
+        assertEquals(30_000L, resolution.price());
+        assertEquals(BOB, resolution.leaderId());
+    }
+
+    @Test
+    void raisingMaxAmountKeepsRegistrationOrder() {
+        ProxyBook book = new ProxyBook();
+        book.register(ALICE, 20_000L);
+        book.register(BOB, 30_000L);
+        book.register(ALICE, 30_000L);
+
+        Resolution resolution = book.resolve(10_000L, null, INCREMENT);
+
+        assertEquals(List.of(new PendingBid(ALICE, 30_000L)), resolution.bids());
+        assertEquals(ALICE, resolution.leaderId());
+    }
+
+    @Test
+    void secondProxyBelowCurrentPriceDoesNotBid() {
+        ProxyBook book = new ProxyBook();
+        book.register(ALICE, 50_000L);
+        book.register(BOB, 9_000L);
+
+        Resolution resolution = book.resolve(10_000L, CAROL, INCREMENT);
+
+        assertEquals(List.of(new PendingBid(ALICE, 11_000L)), resolution.bids());
+        assertEquals(ALICE, resolution.leaderId());
+    }
+
+    @Test
+    void proxyAtOrBelowCurrentPriceDoesNotBid() {
+        ProxyBook book = new ProxyBook();
+        book.register(ALICE, 10_000L);
+
+        Resolution resolution = book.resolve(10_000L, CAROL, INCREMENT);
+
+        assertTrue(resolution.bids().isEmpty());
+        assertEquals(CAROL, resolution.leaderId());
+    }
+
+    @Test
+    void outbidProxiesAreEvictedAfterSettlement() {
+        ProxyBook book = new ProxyBook();
+        book.register(ALICE, 50_000L);
+        book.register(BOB, 30_000L);
+        Resolution first = book.resolve(10_000L, null, INCREMENT);
+
+        book.evictOutbid(first.price(), first.leaderId());
+        // 밀려난 자동 입찰이 남아 있지 않으므로 같은 상태로 다시 정산해도 추가 입찰 없음
+        Resolution second = book.resolve(first.price(), first.leaderId(), INCREMENT);
+
+        assertTrue(second.bids().isEmpty());
+        assertEquals(ALICE, second.leaderId());
+
+        // 새 경쟁자가 들어오면 남은 선두 자동 입찰이 응답
+        book.register(CAROL, 40_000L);
+        Resolution third = book.resolve(first.price(), first.leaderId(), INCREMENT);
+        assertEquals(List.of(new PendingBid(CAROL, 40_000L), new PendingBid(ALICE, 41_000L)), third.bids());
+    }
+}
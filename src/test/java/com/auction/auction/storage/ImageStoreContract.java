@@ -0,0 +1,103 @@
+package com.auction.auction.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * ImageStore 구현이 모두 지켜야 하는 동작
+ * 구현별 테스트가 상속해서 저장소를 만들어 줌 (같은 데이터를 보는 다른 인스턴스도 만들 수 있어야 함)
+ */
+abstract class ImageStoreContract {
+
+    private static final String KEY = "ab/cd/abcdef0123456789.jpg";
+    private static final byte[] CONTENT = "not really a jpeg".getBytes(StandardCharsets.UTF_8);
+
+    @TempDir
+    Path tempDir;
+
+    private ImageStore store;
+
+    /**
+     * 비어 있는 저장소
+     */
+    protected abstract ImageStore createStore(Path tempDir) throws IOException;
+
+    /**
+     * store 와 같은 데이터를 보는 다른 인스턴스 (다른 노드에서 띄운 것처럼 로컬 캐시는 공유하지 않음)
+     */
+    protected abstract ImageStore openAnother(Path tempDir) throws IOException;
+
+    @BeforeEach
+    void setUpStore() throws IOException {
+        store = createStore(tempDir);
+    }
+
+    @Test
+    void storedKeyIsReadable() throws IOException {
+        put(KEY, CONTENT);
+
+        assertTrue(store.exists(KEY));
+        Path file = store.localFile(KEY);
+        assertNotNull(file);
+        assertArrayEquals(CONTENT, Files.readAllBytes(file));
+    }
+
+    @Test
+    void missingKeyIsAbsent() throws IOException {
+        assertFalse(store.exists(KEY));
+        assertNull(store.localFile(KEY));
+    }
+
+    @Test
+    void storedKeyIsVisibleFromAnotherInstance() throws IOException {
+        put(KEY, CONTENT);
+
+        ImageStore other = openAnother(tempDir);
+        assertTrue(other.exists(KEY));
+        assertArrayEquals(CONTENT, Files.readAllBytes(other.localFile(KEY)));
+    }
+
+    @Test
+    void deleteRemovesKey() throws IOException {
+        put(KEY, CONTENT);
+
+        store.delete(KEY);
+
+        assertFalse(store.exists(KEY));
+        assertNull(store.localFile(KEY));
+        assertFalse(openAnother(tempDir).exists(KEY));
+    }
+
+    @Test
+    void deletingMissingKeyIsIgnored() throws IOException {
+        store.delete(KEY);
+
+        assertFalse(store.exists(KEY));
+    }
+
+    @Test
+    void keyOutsideRootIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> store.exists("../outside.jpg"));
+        assertThrows(IllegalArgumentException.class, () -> store.localFile("ab/../../outside.jpg"));
+    }
+
+    // 업로드와 같은 방식으로 저장 (저장소가 만든 임시 파일에 쓴 뒤 넘김)
+    private void put(String key, byte[] content) throws IOException {
+        Path temp = store.createTempFile("upload-");
+        Files.write(temp, content);
+        store.put(key, temp);
+    }
+}
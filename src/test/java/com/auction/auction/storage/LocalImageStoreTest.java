@@ -0,0 +1,19 @@
+package com.auction.auction.storage;
+
+import java.nio.file.Path;
+
+/**
+ * 로컬 파일 시스템 저장소 (두 인스턴스가 같은 디렉토리를 공유)
+ */
+class LocalImageStoreTest extends ImageStoreContract {
+
+    @Override
+    protected ImageStore createStore(Path tempDir) {
+        return new LocalImageStore(tempDir.resolve("images").toString());
+    }
+
+    @Override
+    protected ImageStore openAnother(Path tempDir) {
+        return new LocalImageStore(tempDir.resolve("images").toString());
+    }
+}
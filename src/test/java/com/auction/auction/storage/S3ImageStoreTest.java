@@ -0,0 +1,176 @@
+package com.auction.auction.storage;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.jupiter.api.AfterEach;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * S3 호환 저장소 (테스트 안에서 띄운 최소 S3 서버 대상, 인스턴스마다 로컬 캐시 디렉토리가 다름)
+ */
+class S3ImageStoreTest extends ImageStoreContract {
+
+    private static final String BUCKET = "images";
+
+    private FakeS3Server server;
+    private final List<S3ImageStore> stores = new ArrayList<>();
+    private int instances;
+
+    @Override
+    protected ImageStore createStore(Path tempDir) throws IOException {
+        server = FakeS3Server.start();
+        return openAnother(tempDir);
+    }
+
+    @Override
+    protected ImageStore openAnother(Path tempDir) {
+        S3ImageStore store = new S3ImageStore(BUCKET, "us-east-1", server.endpoint(), true, "test", "test",
+                8L * 1024 * 1024, 5L * 1024 * 1024, 1024L * 1024 * 1024,
+                tempDir.resolve("cache-" + instances++).toString());
+        stores.add(store);
+        return store;
+    }
+
+    @AfterEach
+    void tearDown() {
+        stores.forEach(S3ImageStore::close);
+        if (server != null) {
+            server.stop();
+        }
+    }
+
+    /**
+     * path-style 단일 객체 PUT / HEAD / GET / DELETE 만 지원하는 메모리 S3 서버
+     * 서명은 확인하지 않고, aws-chunked 본문은 풀어서 저장
+     */
+    static final class FakeS3Server {
+
+        private final HttpServer http;
+        private final Map<String, byte[]> objects = new ConcurrentHashMap<>();
+
+        private FakeS3Server(HttpServer http) {
+            this.http = http;
+        }
+
+        static FakeS3Server start() throws IOException {
+            HttpServer http = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+            FakeS3Server server = new FakeS3Server(http);
+            http.createContext("/", server::handle);
+            http.start();
+            return server;
+        }
+
+        String endpoint() {
+            return "http://127.0.0.1:" + http.getAddress().getPort();
+        }
+
+        void stop() {
+            http.stop(0);
+        }
+
+        private void handle(HttpExchange exchange) throws IOException {
+            try (exchange) {
+                String path = exchange.getRequestURI().getPath();
+                switch (exchange.getRequestMethod()) {
+                    case "PUT" -> {
+                        byte[] body = readBody(exchange);
+                        objects.put(path, body);
+                        exchange.getResponseHeaders().add("ETag", etagOf(body));
+                        exchange.sendResponseHeaders(200, -1);
+                    }
+                    case "HEAD" -> {
+                        byte[] body = objects.get(path);
+                        if (body != null) {
+                            exchange.getResponseHeaders().add("ETag", etagOf(body));
+                        }
+                        exchange.sendResponseHeaders(body != null ? 200 : 404, -1);
+                    }
+                    case "GET" -> {
+                        byte[] body = objects.get(path);
+                        if (body == null) {
+                            notFound(exchange);
+                            return;
+                        }
+                        exchange.getResponseHeaders().add("ETag", etagOf(body));
+                        exchange.getResponseHeaders().add("Content-Type", "application/octet-stream");
+                        exchange.sendResponseHeaders(200, body.length);
+                        exchange.getResponseBody().write(body);
+                    }
+                    case "DELETE" -> {
+                        objects.remove(path);
+                        exchange.sendResponseHeaders(204, -1);
+                    }
+                    default -> exchange.sendResponseHeaders(405, -1);
+                }
+            }
+        }
+
+        private static void notFound(HttpExchange exchange) throws IOException {
+            byte[] error = ("<?xml version=\"1.0\" encoding=\"UTF-8\"?>"
+                    + "<Error><Code>NoSuchKey</Code><Message>The specified key does not exist.</Message></Error>")
+                    .getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/xml");
+            exchange.sendResponseHeaders(404, error.length);
+            exchange.getResponseBody().write(error);
+        }
+
+        // 서명/체크섬이 붙은 aws-chunked 본문이면 데이터 부분만 이어 붙임
+        private static byte[] readBody(HttpExchange exchange) throws IOException {
+            byte[] raw = exchange.getRequestBody().readAllBytes();
+            String encoding = exchange.getRequestHeaders().getFirst("Content-Encoding");
+            String sha256 = exchange.getRequestHeaders().getFirst("x-amz-content-sha256");
+            boolean chunked = (encoding != null && encoding.contains("aws-chunked"))
+                    || (sha256 != null && sha256.startsWith("STREAMING-"));
+            return chunked ? decodeChunks(raw) : raw;
+        }
+
+        private static byte[] decodeChunks(byte[] raw) throws IOException {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            InputStream in = new ByteArrayInputStream(raw);
+            while (true) {
+                String header = readLine(in);
+                int semicolon = header.indexOf(';');
+                int size = Integer.parseInt(semicolon >= 0 ? header.substring(0, semicolon) : header, 16);
+                if (size == 0) {
+                    return out.toByteArray(); // 뒤따르는 trailer(체크섬)는 무시
+                }
+                out.write(in.readNBytes(size));
+                readLine(in);
+            }
+        }
+
+        private static String readLine(InputStream in) throws IOException {
+            StringBuilder line = new StringBuilder();
+            int b;
+            while ((b = in.read()) != -1 && b != '\n') {
+                if (b != '\r') {
+                    line.append((char) b);
+                }
+            }
+            return line.toString();
+        }
+
+        private static String etagOf(byte[] body) {
+            try {
+                return "\"" + HexFormat.of().formatHex(MessageDigest.getInstance("MD5").digest(body)) + "\"";
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}